@@ -0,0 +1,86 @@
+package arb.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arb.commons.exceptions.DataConversionException;
+import arb.model.AddressBook;
+import arb.model.ReadOnlyAddressBook;
+import arb.storage.BinaryAddressBookStorage;
+import arb.storage.JsonAddressBookStorage;
+
+/**
+ * Measures saving address books of each book size to json, and loading them from json and from binary snapshots.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookSize;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    /**
+     * Generates an address book of {@code bookSize} records and saves it in both formats.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("storageBenchmark");
+        addressBook = BenchmarkAddressBooks.generate(bookSize);
+        jsonStorage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        binaryStorage = new BinaryAddressBookStorage(folder.resolve("addressbook.bin"));
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    /**
+     * Deletes the saved address books.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void saveJson() throws IOException {
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadJson() throws DataConversionException {
+        return jsonStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook loadBinary() throws DataConversionException, IOException {
+        return binaryStorage.readAddressBook().get();
+    }
+}
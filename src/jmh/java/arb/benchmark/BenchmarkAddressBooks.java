@@ -0,0 +1,70 @@
+package arb.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import arb.model.AddressBook;
+import arb.model.client.Client;
+import arb.model.client.Email;
+import arb.model.client.Name;
+import arb.model.client.Phone;
+import arb.model.project.Deadline;
+import arb.model.project.Price;
+import arb.model.project.Project;
+import arb.model.project.Title;
+import arb.model.tag.Tag;
+
+/**
+ * Generates the address books that benchmarks are run against.
+ *
+ * Half of the records in an address book are clients and half are projects, with every other project linked to
+ * a client. Every client and project has two of a handful of tags, and projects are due an hour apart.
+ */
+public class BenchmarkAddressBooks {
+
+    public static final String[] TAGS = {"oil", "watercolour", "portrait", "landscape", "commission", "urgent"};
+    public static final LocalDateTime FIRST_DEADLINE = LocalDateTime.of(2023, 1, 1, 12, 0);
+
+    /**
+     * Returns the {@code i}th client of a generated address book.
+     */
+    public static Client getClient(int i) {
+        return new Client(new Name("Client " + i), new Phone(String.valueOf(80000000 + i)),
+                new Email("client" + i + "@example.com"), getTags(i));
+    }
+
+    /**
+     * Returns the {@code i}th project of a generated address book, without its linked client.
+     */
+    public static Project getProject(int i) {
+        return new Project(new Title("Project " + i), Deadline.of(FIRST_DEADLINE.plusHours(i)),
+                Price.ofCents(i % 1000 * 100 + 50), getTags(i));
+    }
+
+    /**
+     * Returns an address book with {@code recordCount} clients and projects in total.
+     */
+    public static AddressBook generate(int recordCount) {
+        AddressBook addressBook = new AddressBook();
+        int clientCount = recordCount / 2;
+        for (int i = 0; i < clientCount; i++) {
+            addressBook.addClient(getClient(i));
+        }
+        for (int i = 0; i < recordCount - clientCount; i++) {
+            Project project = getProject(i);
+            if (i % 2 == 0 && clientCount > 0) {
+                addressBook.linkProjectToClient(new Name("Client " + i % clientCount), project);
+            }
+            addressBook.addProject(project);
+        }
+        return addressBook;
+    }
+
+    private static Set<Tag> getTags(int i) {
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag(TAGS[i % TAGS.length]));
+        tags.add(new Tag(TAGS[(i / TAGS.length) % TAGS.length]));
+        return tags;
+    }
+}
@@ -0,0 +1,94 @@
+package arb.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arb.commons.core.predicate.CombinedPredicate;
+import arb.model.Model;
+import arb.model.ModelManager;
+import arb.model.UserPrefs;
+import arb.model.project.Deadline;
+import arb.model.project.Project;
+import arb.model.project.Status;
+import arb.model.project.predicates.IsOfStatusPredicate;
+import arb.model.project.predicates.ProjectContainsTagsPredicate;
+import arb.model.project.predicates.ProjectWithinTimeframePredicate;
+import arb.model.project.predicates.TitleContainsKeywordsPredicate;
+
+/**
+ * Measures filtering the projects of an address book of each book size with a {@code CombinedPredicate}, both by
+ * testing every project and through the model, which looks keywords and tags up in the address book's indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CombinedPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookSize;
+
+    private List<Project> projects;
+    private Model model;
+    private CombinedPredicate<Project> predicate;
+    private CombinedPredicate<Project> otherPredicate;
+    private boolean isOtherPredicateNext;
+
+    /**
+     * Generates an address book of {@code bookSize} records and the predicates to filter its projects with.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        model = new ModelManager(BenchmarkAddressBooks.generate(bookSize), new UserPrefs());
+        projects = model.getAddressBook().getProjectList();
+        predicate = new CombinedPredicate<>(List.of(
+                new IsOfStatusPredicate(new Status()),
+                new ProjectContainsTagsPredicate(List.of("oil", "urgent")),
+                new ProjectWithinTimeframePredicate(Deadline.of(BenchmarkAddressBooks.FIRST_DEADLINE), null)));
+        // the model does not filter again for an equal predicate, so filtering alternates between two predicates
+        otherPredicate = new CombinedPredicate<>(List.of(
+                new IsOfStatusPredicate(new Status()),
+                new TitleContainsKeywordsPredicate(List.of("Project", "42"))));
+    }
+
+    /**
+     * Returns the number of projects matching the predicate, testing every project.
+     */
+    @Benchmark
+    public int scan() {
+        int matches = 0;
+        for (Project project : projects) {
+            if (predicate.test(project)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Filters the model's project list, alternating between two predicates.
+     */
+    @Benchmark
+    public int filterModel() {
+        Predicate<Project> next = isOtherPredicateNext ? otherPredicate : predicate;
+        isOtherPredicateNext = !isOtherPredicateNext;
+        model.updateFilteredProjectList(next);
+        return model.getFilteredProjectList().size();
+    }
+}
@@ -0,0 +1,36 @@
+package arb.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arb.model.project.Deadline;
+
+/**
+ * Measures constructing a {@code Deadline} from the kinds of dates users type in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DeadlineBenchmark {
+
+    @Param({"2023-06-01", "2023-06-01T12:00", "3pm tomorrow", "next friday"})
+    private String date;
+
+    @Benchmark
+    public Deadline construct() {
+        return new Deadline(date);
+    }
+}
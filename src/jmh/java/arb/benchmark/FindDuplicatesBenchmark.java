@@ -0,0 +1,70 @@
+package arb.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arb.commons.util.CollectionUtil;
+import arb.model.client.Client;
+import arb.model.client.UniqueClientList;
+
+/**
+ * Measures checking the clients of an address book of each book size for duplicates, on its own and as part of
+ * replacing a client list. The time per client should stay about the same as the book size grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FindDuplicatesBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookSize;
+
+    private List<Client> clients;
+    private UniqueClientList clientList;
+
+    /**
+     * Generates {@code bookSize} clients with distinct names.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        clients = new ArrayList<>(bookSize);
+        for (int i = 0; i < bookSize; i++) {
+            clients.add(BenchmarkAddressBooks.getClient(i));
+        }
+        clientList = new UniqueClientList();
+    }
+
+    /**
+     * Finds the clients that share a name with an earlier client, of which there are none.
+     */
+    @Benchmark
+    public List<Client> findDuplicates() {
+        return CollectionUtil.findDuplicates(clients, Client::getName);
+    }
+
+    /**
+     * Replaces the client list with the generated clients, which checks them for duplicates.
+     */
+    @Benchmark
+    public UniqueClientList setClients() {
+        clientList.setClients(clients);
+        return clientList;
+    }
+}
@@ -0,0 +1,75 @@
+package arb.benchmark;
+
+import static arb.logic.parser.CliSyntax.PREFIX_CLIENT;
+import static arb.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static arb.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static arb.logic.parser.CliSyntax.PREFIX_NAME;
+import static arb.logic.parser.CliSyntax.PREFIX_PHONE;
+import static arb.logic.parser.CliSyntax.PREFIX_PRICE;
+import static arb.logic.parser.CliSyntax.PREFIX_STATUS;
+import static arb.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arb.logic.commands.Command;
+import arb.logic.parser.AddressBookParser;
+import arb.logic.parser.ArgumentMultimap;
+import arb.logic.parser.ArgumentTokenizer;
+import arb.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures tokenizing and parsing user input.
+ *
+ * Parsing does not look at the address book, so these benchmarks are parameterised by the command parsed
+ * rather than by book size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ParserBenchmark {
+
+    @Param({
+        "add-project name/Sunset over the bay price/120.50 tag/oil tag/landscape",
+        "add-client name/Alice Pauline phone/94351253 email/alice@example.com tag/friends",
+        "find-project name/sunset bay tag/oil status/nd",
+        "edit-client 1 name/Alice Tan phone/91234567",
+    })
+    private String userInput;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String arguments;
+
+    @Setup
+    public void setUp() {
+        arguments = userInput.substring(userInput.indexOf(' '));
+    }
+
+    /**
+     * Tokenizes the arguments of the user input with every prefix that the benchmarked commands take.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_TAG,
+                PREFIX_DEADLINE, PREFIX_PRICE, PREFIX_CLIENT, PREFIX_STATUS);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
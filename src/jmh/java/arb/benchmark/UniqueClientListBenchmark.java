@@ -0,0 +1,87 @@
+package arb.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arb.model.client.Client;
+import arb.model.client.UniqueClientList;
+
+/**
+ * Measures adding clients to, and looking clients up in, a {@code UniqueClientList} of each book size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniqueClientListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookSize;
+
+    private Client[] clients;
+    private UniqueClientList clientList;
+    private Client newClient;
+    private int next;
+
+    /**
+     * Fills a client list with {@code bookSize} clients.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        clients = new Client[bookSize];
+        clientList = new UniqueClientList();
+        for (int i = 0; i < bookSize; i++) {
+            clients[i] = BenchmarkAddressBooks.getClient(i);
+            clientList.add(clients[i]);
+        }
+        newClient = BenchmarkAddressBooks.getClient(bookSize);
+    }
+
+    /**
+     * Adds a client to the full list, and removes it again so that every invocation adds to the same list.
+     */
+    @Benchmark
+    public UniqueClientList addAndRemove() {
+        clientList.add(newClient);
+        clientList.remove(newClient);
+        return clientList;
+    }
+
+    /**
+     * Adds every client to an empty list.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public UniqueClientList addAll() {
+        UniqueClientList list = new UniqueClientList();
+        for (Client c : clients) {
+            list.add(c);
+        }
+        return list;
+    }
+
+    /**
+     * Checks whether the list contains a client, cycling through the clients in the list.
+     */
+    @Benchmark
+    public boolean contains() {
+        next = (next + 1) % bookSize;
+        return clientList.contains(clients[next]);
+    }
+}
@@ -0,0 +1,61 @@
+package arb.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import arb.model.AddressBook;
+import arb.model.client.Client;
+import arb.model.project.Project;
+import arb.model.tag.UniqueTagMappingList;
+
+/**
+ * Measures building the tag mappings of an address book of each book size from scratch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniqueTagMappingListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int bookSize;
+
+    private List<Client> clients;
+    private List<Project> projects;
+    private UniqueTagMappingList tagMappings;
+
+    /**
+     * Generates an address book of {@code bookSize} records.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        AddressBook addressBook = BenchmarkAddressBooks.generate(bookSize);
+        clients = addressBook.getClientList();
+        projects = addressBook.getProjectList();
+        tagMappings = new UniqueTagMappingList();
+    }
+
+    /**
+     * Replaces the tag mappings with those of the generated address book's clients and projects.
+     */
+    @Benchmark
+    public UniqueTagMappingList setTagMappings() {
+        tagMappings.setTagMappings(clients, projects);
+        return tagMappings;
+    }
+}
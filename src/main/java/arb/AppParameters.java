@@ -2,6 +2,7 @@ package arb;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,9 +15,13 @@ import javafx.application.Application;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    /** The batch script parameter that reads the batch script from standard input instead of a file. */
+    public static final String STANDARD_INPUT = "-";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private String batchScript;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +31,46 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the batch script to run without the UI, or {@link #STANDARD_INPUT}, or null if the UI
+     * should be started.
+     */
+    public String getBatchScript() {
+        return batchScript;
+    }
+
+    public void setBatchScript(String batchScript) {
+        this.batchScript = batchScript;
+    }
+
+    public boolean isBatchMode() {
+        return batchScript != null;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the command-line arguments given to {@code main}, before JavaFX is started. Named parameters are
+     * given as {@code --name=value}, the same way as to JavaFX.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int equalsIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && equalsIndex > 2) {
+                namedParameters.put(arg.substring(2, equalsIndex), arg.substring(equalsIndex + 1));
+            }
+        }
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,6 +79,14 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchScriptParameter = namedParameters.get("batch");
+        if (batchScriptParameter != null && !batchScriptParameter.equals(STANDARD_INPUT)
+                && !FileUtil.isValidPath(batchScriptParameter)) {
+            logger.warning("Invalid batch script path " + batchScriptParameter + ". Starting the UI instead.");
+            batchScriptParameter = null;
+        }
+        appParameters.setBatchScript(batchScriptParameter);
+
         return appParameters;
     }
 
@@ -54,11 +101,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getBatchScript(), otherAppParameters.getBatchScript());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchScript);
     }
 }
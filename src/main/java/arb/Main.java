@@ -17,9 +17,16 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given a batch script with {@code --batch=FILE}, or {@code --batch=-} to read it from standard input, the
+ * commands in the script are run without starting JavaFX at all.
  */
 public class Main {
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isBatchMode()) {
+            System.exit(MainApp.runBatch(appParameters));
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -1,18 +1,27 @@
 package arb;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import arb.commons.core.Config;
 import arb.commons.core.LogsCenter;
 import arb.commons.core.Version;
+import arb.commons.core.metrics.MetricsDumper;
+import arb.commons.core.metrics.MetricsRegistry;
 import arb.commons.exceptions.DataConversionException;
 import arb.commons.util.ConfigUtil;
 import arb.commons.util.StringUtil;
 import arb.logic.Logic;
 import arb.logic.LogicManager;
+import arb.logic.batch.BatchCommandRunner;
+import arb.logic.batch.BatchReport;
 import arb.model.AddressBook;
 import arb.model.Model;
 import arb.model.ModelManager;
@@ -21,12 +30,14 @@ import arb.model.ReadOnlyUserPrefs;
 import arb.model.UserPrefs;
 import arb.model.util.SampleDataUtil;
 import arb.storage.AddressBookStorage;
-import arb.storage.JsonAddressBookStorage;
+import arb.storage.BinaryAddressBookStorage;
+import arb.storage.JournaledJsonAddressBookStorage;
 import arb.storage.JsonStorageState;
 import arb.storage.JsonUserPrefsStorage;
 import arb.storage.Storage;
 import arb.storage.StorageManager;
 import arb.storage.UserPrefsStorage;
+import arb.storage.WriteBehindStorage;
 import arb.ui.Ui;
 import arb.ui.UiManager;
 import javafx.application.Application;
@@ -48,27 +59,63 @@ public class MainApp extends Application {
     protected Config config;
 
     private JsonStorageState initialStorageState = JsonStorageState.VALID;
+    private Optional<MetricsDumper> metricsDumper = Optional.empty();
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+
+        ui = new UiManager(logic, initialStorageState);
+    }
+
+    /**
+     * Runs the batch script in {@code appParameters} without starting the UI, prints how long its commands took,
+     * and saves the address book and preferences as if the app was stopped.
+     *
+     * @return the exit status: 0 if every command succeeded, 1 if any command failed, or 2 if the script could not
+     *     be read.
+     */
+    public static int runBatch(AppParameters appParameters) {
+        assert appParameters.isBatchMode();
+        logger.info("=========================[ Running AddressBook batch script ]=======================");
+        MainApp app = new MainApp();
+        app.initComponents(appParameters);
+
+        String batchScript = appParameters.getBatchScript();
+        try (BufferedReader script = batchScript.equals(AppParameters.STANDARD_INPUT)
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(batchScript), StandardCharsets.UTF_8)) {
+            BatchReport report = new BatchCommandRunner(app.logic, System.err).run(script);
+            System.out.print(report.format());
+            return report.getFailureCount() == 0 ? 0 : 1;
+        } catch (IOException e) {
+            System.err.println("Could not read batch script " + batchScript + ": " + e);
+            return 2;
+        } finally {
+            app.stop();
+        }
+    }
+
+    /**
+     * Initializes everything except the UI, from {@code appParameters}.
+     */
+    private void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
 
         initLogging(config);
+        initMetrics(config);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
-
-        ui = new UiManager(logic, initialStorageState);
     }
 
     /**
@@ -99,10 +146,41 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} for the address book at {@code addressBookFilePath}, in the
+     * address book format of {@code config}. <br>
+     * A binary address book is kept next to the json address book, and is imported from it if it does not exist yet.
+     * The json address book is brought up to date when the app stops.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path addressBookFilePath) {
+        AddressBookStorage jsonAddressBookStorage = new JournaledJsonAddressBookStorage(addressBookFilePath);
+        switch (config.getAddressBookFormat()) {
+        case BINARY:
+            Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(addressBookFilePath);
+            logger.info("Using binary data file : " + binaryFilePath);
+            return new BinaryAddressBookStorage(binaryFilePath, jsonAddressBookStorage);
+        default:
+            return jsonAddressBookStorage;
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
+    /**
+     * Starts dumping metrics to the file in {@code config} periodically, if there is one.
+     */
+    private void initMetrics(Config config) {
+        if (config.getMetricsFilePath() == null) {
+            return;
+        }
+        MetricsDumper dumper = new MetricsDumper(MetricsRegistry.getDefault(), config.getMetricsFilePath(),
+                config.getMetricsDumpIntervalSeconds());
+        dumper.start();
+        metricsDumper = Optional.of(dumper);
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -180,10 +258,18 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        storage.flush();
+        logger.info("Skipped " + storage.getSkippedSaveCount() + " saves of an unmodified address book");
+        try {
+            storage.exportAddressBook(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to export address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        metricsDumper.ifPresent(MetricsDumper::stop);
     }
 }
@@ -0,0 +1,98 @@
+package arb;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import arb.model.util.SyntheticDataGenerator;
+import arb.storage.JsonAddressBookStorage;
+
+/**
+ * The entry point for generating synthetic address books to try the app out with.
+ *
+ * Run with {@code gradlew generateData --args="FILE CLIENTS PROJECTS [options]"}, e.g.
+ * {@code gradlew generateData --args="data/large.json 50000 100000 --seed 7"}. The options are
+ * {@code --seed SEED}, {@code --link-density FRACTION_OF_PROJECTS_LINKED}, {@code --date YYYY-MM-DD} to spread
+ * deadlines around instead of today, and {@code --in-memory} to build the whole address book before saving it,
+ * which checks it the same way the app does. Otherwise clients and projects are written to the file as they are
+ * generated, so address books larger than the memory available can be generated.
+ */
+public class SyntheticDataMain {
+
+    public static final String MESSAGE_USAGE = "Usage: FILE CLIENTS PROJECTS [--seed SEED] "
+            + "[--link-density FRACTION_OF_PROJECTS_LINKED] [--date YYYY-MM-DD] [--in-memory]";
+
+    private static final long DEFAULT_SEED = 1;
+
+    /**
+     * Generates an address book as described by {@code args} and saves it.
+     */
+    public static void main(String[] args) {
+        try {
+            generate(args);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (IOException ioe) {
+            System.err.println("Could not save the address book: " + ioe);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Generates an address book as described by {@code args} and saves it to the file given in {@code args}.
+     *
+     * @throws IllegalArgumentException if {@code args} are not valid.
+     */
+    static void generate(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("The file, number of clients and number of projects must be given");
+        }
+        Path filePath = Paths.get(args[0]);
+        int clientCount = Integer.parseInt(args[1]);
+        int projectCount = Integer.parseInt(args[2]);
+        long seed = DEFAULT_SEED;
+        double linkDensity = SyntheticDataGenerator.DEFAULT_LINK_DENSITY;
+        LocalDate today = LocalDate.now();
+        boolean isInMemory = false;
+        for (int i = 3; i < args.length; i++) {
+            switch (args[i]) {
+            case "--seed":
+                seed = Long.parseLong(getOptionValue(args, ++i));
+                break;
+            case "--link-density":
+                linkDensity = Double.parseDouble(getOptionValue(args, ++i));
+                break;
+            case "--date":
+                today = LocalDate.parse(getOptionValue(args, ++i));
+                break;
+            case "--in-memory":
+                isInMemory = true;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        SyntheticDataGenerator generator =
+                new SyntheticDataGenerator(seed, clientCount, projectCount, linkDensity, today);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        if (isInMemory) {
+            storage.saveAddressBook(generator.generateAddressBook());
+        } else {
+            storage.saveAddressBook(generator.getClients(), generator.getProjects(), filePath);
+        }
+        System.out.printf("Saved %d clients and %d projects generated from seed %d to %s%n",
+                clientCount, projectCount, seed, filePath);
+    }
+
+    private static String getOptionValue(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Option " + args[index - 1] + " needs a value");
+        }
+        return args[index];
+    }
+}
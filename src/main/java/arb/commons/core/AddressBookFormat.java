@@ -0,0 +1,11 @@
+package arb.commons.core;
+
+/**
+ * Represents the formats that the address book can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable json, which is also the format used to import and export address books. */
+    JSON,
+    /** Compact binary snapshot, which is faster to load than json, and is exported to json when the app stops. */
+    BINARY
+}
@@ -15,6 +15,10 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    /** The file that metrics are dumped to periodically, or null to not dump them. */
+    private Path metricsFilePath = null;
+    private long metricsDumpIntervalSeconds = 60;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +36,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public long getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    public void setMetricsDumpIntervalSeconds(long metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +72,16 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(addressBookFormat, o.addressBookFormat)
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && metricsDumpIntervalSeconds == o.metricsDumpIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, addressBookFormat, metricsFilePath,
+                metricsDumpIntervalSeconds);
     }
 
     @Override
@@ -57,6 +89,9 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nAddress book format : " + addressBookFormat);
+        sb.append("\nMetrics file location : " + metricsFilePath);
+        sb.append("\nMetrics dump interval in seconds : " + metricsDumpIntervalSeconds);
         return sb.toString();
     }
 
@@ -2,51 +2,57 @@ package arb.commons.core;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
+import arb.commons.core.logging.AsyncLogHandler;
+import arb.commons.core.logging.RateLimitFilter;
+
 /**
  * Configures and manages loggers and handlers, including their logging level
  * Named {@link Logger}s can be obtained from this class<br>
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written on a background thread, and each logger logs at most {@code MAX_RECORDS_PER_SECOND}
+ *   messages below {@code WARNING} each second. Messages that are costly to build should be logged with a
+ *   {@code Supplier<String>}, so that they are only built if they will be logged.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final int LOG_BUFFER_CAPACITY = 1024;
+    private static final int MAX_RECORDS_PER_SECOND = 100;
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler asyncHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The logging level of every logger obtained from the LogsCenter, before or after this initialization,
+     * is changed.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        getAsyncHandler().setLevel(currentLogLevel);
+        loggers.values().forEach(configuredLogger -> configuredLogger.setLevel(currentLogLevel));
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
     /**
-     * Creates a logger with the given name.
+     * Returns the logger with the given name, configuring it the first time it is requested.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        return loggers.computeIfAbsent(name, LogsCenter::createLogger);
     }
 
     /**
@@ -60,14 +66,19 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Configures the logger with the given name to log at the current level through the {@code asyncHandler}.
+     * The logger is kept by the LogsCenter so that its configuration is not lost.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
+    private static Logger createLogger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+        logger.setLevel(currentLogLevel);
+        logger.setFilter(new RateLimitFilter(MAX_RECORDS_PER_SECOND));
+
+        removeHandlers(logger);
+        logger.addHandler(getAsyncHandler());
+
+        return logger;
     }
 
     /**
@@ -79,18 +90,24 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the {@code asyncHandler} that writes to the console and the log file. <br>
+     * Creates the {@code asyncHandler} if it is null, and writes out its remaining messages when the app exits.
      */
-    private static void addFileHandler(Logger logger) {
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler != null) {
+            return asyncHandler;
+        }
+
+        Handler consoleHandler = createConsoleHandler();
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            asyncHandler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, consoleHandler, createFileHandler());
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            asyncHandler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, consoleHandler);
+            asyncHandler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
         }
+        asyncHandler.setLevel(currentLogLevel);
+        Runtime.getRuntime().addShutdownHook(new Thread(asyncHandler::close, "log closer"));
+        return asyncHandler;
     }
 
     /**
@@ -100,13 +117,13 @@ public class LogsCenter {
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+        fileHandler.setLevel(Level.ALL);
         return fileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
 }
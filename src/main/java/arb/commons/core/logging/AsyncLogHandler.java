@@ -0,0 +1,163 @@
+package arb.commons.core.logging;
+
+import static arb.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that passes log records on to other handlers on a background thread, so that logging does
+ * not wait for the console or a file to be written.
+ *
+ * Records wait to be written in a ring buffer of fixed capacity. Once it is full, further records are dropped
+ * instead of holding up the threads that log them, and how many were dropped is logged once there is room again.
+ * Records are written in the order they were published.
+ */
+public class AsyncLogHandler extends Handler {
+
+    private final List<Handler> handlers;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "log writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final LogRecord[] buffer;
+
+    private int head;
+    private int size;
+    private long droppedCount;
+    private long reportedDroppedCount;
+    private boolean isWriting;
+    private boolean isClosed;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that holds up to {@code capacity} records waiting to be written, and
+     * writes them to each of {@code handlers}.
+     */
+    public AsyncLogHandler(int capacity, Handler... handlers) {
+        requireNonNull(handlers);
+        checkArgument(capacity > 0, "The capacity of the log buffer must be positive");
+        this.buffer = new LogRecord[capacity];
+        this.handlers = new ArrayList<>(Arrays.asList(handlers));
+    }
+
+    /**
+     * Queues {@code record} to be written, or drops it if the buffer is full.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // the source of a record is worked out from the stack of the thread that logged it
+        record.getSourceClassName();
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            if (size == buffer.length) {
+                droppedCount++;
+                return;
+            }
+            buffer[(head + size) % buffer.length] = record;
+            size++;
+            if (!isWriting) {
+                isWriting = true;
+                writer.execute(this::writeQueuedRecords);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full.
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Waits for the queued records to be written, then flushes the handlers they are written to.
+     */
+    @Override
+    public void flush() {
+        synchronized (this) {
+            while (isWriting) {
+                try {
+                    wait();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        for (Handler handler : handlers) {
+            handler.flush();
+        }
+    }
+
+    /**
+     * Writes the queued records, then closes the handlers they are written to. Records published afterwards
+     * are dropped.
+     */
+    @Override
+    public void close() {
+        flush();
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+        }
+        writer.shutdown();
+        for (Handler handler : handlers) {
+            handler.close();
+        }
+    }
+
+    /**
+     * Writes the queued records until there are none left.
+     */
+    private void writeQueuedRecords() {
+        while (true) {
+            LogRecord record;
+            long newlyDroppedCount;
+            synchronized (this) {
+                if (size == 0) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                record = buffer[head];
+                buffer[head] = null;
+                head = (head + 1) % buffer.length;
+                size--;
+                newlyDroppedCount = droppedCount - reportedDroppedCount;
+                reportedDroppedCount = droppedCount;
+            }
+
+            if (newlyDroppedCount > 0) {
+                write(new LogRecord(Level.WARNING, "Dropped " + newlyDroppedCount
+                        + " log records as they were logged faster than they could be written"));
+            }
+            write(record);
+        }
+    }
+
+    private void write(LogRecord record) {
+        for (Handler handler : handlers) {
+            try {
+                handler.publish(record);
+            } catch (RuntimeException re) {
+                reportError("Failed to write log record", re, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package arb.commons.core.logging;
+
+import static arb.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.logging.Filter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Filter} for a logger that lets through at most a number of records each second, so that a burst of
+ * logging from one place cannot flood the log.
+ *
+ * Warnings and more severe records are always let through. The first record let through after some were
+ * suppressed says how many were suppressed.
+ */
+public class RateLimitFilter implements Filter {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int maxRecordsPerSecond;
+    private final LongSupplier nanoTime;
+
+    private long windowStart;
+    private int windowCount;
+    private long suppressedCount;
+
+    /**
+     * Creates a {@code RateLimitFilter} that lets through at most {@code maxRecordsPerSecond} records below
+     * {@code WARNING} each second.
+     */
+    public RateLimitFilter(int maxRecordsPerSecond) {
+        this(maxRecordsPerSecond, System::nanoTime);
+    }
+
+    /**
+     * Creates a {@code RateLimitFilter} that tells the time in nanoseconds from {@code nanoTime}.
+     */
+    RateLimitFilter(int maxRecordsPerSecond, LongSupplier nanoTime) {
+        checkArgument(maxRecordsPerSecond > 0, "The maximum number of records per second must be positive");
+        this.maxRecordsPerSecond = maxRecordsPerSecond;
+        this.nanoTime = nanoTime;
+        this.windowStart = nanoTime.getAsLong();
+    }
+
+    @Override
+    public boolean isLoggable(LogRecord record) {
+        long suppressed;
+        synchronized (this) {
+            long now = nanoTime.getAsLong();
+            if (now - windowStart >= WINDOW_NANOS) {
+                windowStart = now;
+                windowCount = 0;
+            }
+            if (record.getLevel().intValue() < Level.WARNING.intValue() && windowCount >= maxRecordsPerSecond) {
+                suppressedCount++;
+                return false;
+            }
+            windowCount++;
+            suppressed = suppressedCount;
+            suppressedCount = 0;
+        }
+        if (suppressed > 0) {
+            record.setMessage(record.getMessage() + " (" + suppressed + " earlier records suppressed)");
+        }
+        return true;
+    }
+}
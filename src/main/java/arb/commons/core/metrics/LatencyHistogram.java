@@ -0,0 +1,95 @@
+package arb.commons.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies in nanoseconds, in the style of an HDR histogram: latencies are counted in buckets that
+ * are linear within each power of two, so any latency from a nanosecond up is recorded to within about 6% without
+ * allocating or keeping every latency.
+ *
+ * Latencies can be recorded from any thread.
+ */
+public class LatencyHistogram {
+
+    /** The number of bits of a latency that pick its bucket within its power of two. */
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = getBucketIndex(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency of {@code nanos}. Negative latencies are recorded as 0.
+     */
+    public void record(long nanos) {
+        long latency = Math.max(0, nanos);
+        counts.incrementAndGet(getBucketIndex(latency));
+        count.incrementAndGet();
+        total.addAndGet(latency);
+        max.accumulateAndGet(latency, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean latency in nanoseconds, or 0 if no latencies were recorded.
+     */
+    public double getMean() {
+        long recorded = count.get();
+        return recorded == 0 ? 0 : (double) total.get() / recorded;
+    }
+
+    /**
+     * Returns the latency in nanoseconds that {@code percentile} percent of the recorded latencies were at most,
+     * rounded up to the highest latency in its bucket, or 0 if no latencies were recorded.
+     */
+    public long getPercentile(double percentile) {
+        long recorded = count.get();
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100 * recorded));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(getHighestValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the bucket that {@code latency} is counted in. Latencies below {@code 2 * SUB_BUCKET_COUNT} have a
+     * bucket each, and each power of two above that is split into {@code SUB_BUCKET_COUNT} buckets.
+     */
+    static int getBucketIndex(long latency) {
+        if (latency < 2 * SUB_BUCKET_COUNT) {
+            return (int) latency;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(latency) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (latency >>> shift);
+    }
+
+    /**
+     * Returns the highest latency counted in the bucket at {@code index}.
+     */
+    static long getHighestValue(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
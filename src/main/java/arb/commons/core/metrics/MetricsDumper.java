@@ -0,0 +1,73 @@
+package arb.commons.core.metrics;
+
+import static arb.commons.util.AppUtil.checkArgument;
+import static arb.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import arb.commons.core.LogsCenter;
+import arb.commons.util.FileUtil;
+import arb.commons.util.StringUtil;
+
+/**
+ * Periodically writes the metrics in a {@code MetricsRegistry} to a file, replacing what was written before.
+ */
+public class MetricsDumper {
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsDumper.class);
+
+    private final MetricsRegistry registry;
+    private final Path filePath;
+    private final long intervalSeconds;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "metrics-dumper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a {@code MetricsDumper} that writes the metrics in {@code registry} to {@code filePath} every
+     * {@code intervalSeconds} once started.
+     */
+    public MetricsDumper(MetricsRegistry registry, Path filePath, long intervalSeconds) {
+        requireAllNonNull(registry, filePath);
+        checkArgument(intervalSeconds > 0, "The interval between metrics dumps must be positive");
+        this.registry = registry;
+        this.filePath = filePath;
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    /**
+     * Starts writing the metrics every interval.
+     */
+    public void start() {
+        logger.info("Writing metrics to " + filePath + " every " + intervalSeconds + " s");
+        executor.scheduleAtFixedRate(this::dump, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops writing the metrics every interval, and writes them one last time.
+     */
+    public void stop() {
+        executor.shutdownNow();
+        dump();
+    }
+
+    /**
+     * Writes the metrics to the file now.
+     */
+    public void dump() {
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeToFile(filePath, "Metrics at " + LocalDateTime.now() + "\n" + registry.format());
+        } catch (IOException ioe) {
+            logger.warning("Failed to write metrics to " + filePath + ": " + StringUtil.getDetails(ioe));
+        }
+    }
+}
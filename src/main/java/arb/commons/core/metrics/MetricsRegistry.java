@@ -0,0 +1,105 @@
+package arb.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps named latency histograms and counters, so that the app can report where its time goes.
+ *
+ * Recording a metric does not allocate once the metric exists, and metrics can be recorded from any thread.
+ * The app records into the default registry, which lives as long as the app.
+ */
+public class MetricsRegistry {
+
+    /** The latency of running a whole command, followed by the command word. */
+    public static final String COMMAND_LATENCY_PREFIX = "command.";
+    public static final String PARSE_LATENCY = "phase.parse";
+    public static final String EXECUTE_LATENCY = "phase.execute";
+    public static final String SAVE_LATENCY = "phase.save";
+    public static final String UI_REFRESH_LATENCY = "phase.ui-refresh";
+    /** The latency of writing the address book to disk, which may be after the command that saved it. */
+    public static final String WRITE_LATENCY = "storage.write";
+
+    public static final String SAVE_COUNT = "storage.saves";
+    public static final String SKIPPED_SAVE_COUNT = "storage.skipped-saves";
+    public static final String BYTES_WRITTEN_COUNT = "storage.bytes-written";
+    public static final String LIST_REFRESH_COUNT = "list.refreshes";
+
+    private static final MetricsRegistry defaultRegistry = new MetricsRegistry();
+
+    private final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry getDefault() {
+        return defaultRegistry;
+    }
+
+    /**
+     * Returns the latency histogram named {@code name}, creating it if it does not exist yet.
+     */
+    public LatencyHistogram getHistogram(String name) {
+        requireNonNull(name);
+        LatencyHistogram histogram = histograms.get(name);
+        return histogram != null ? histogram : histograms.computeIfAbsent(name, n -> new LatencyHistogram());
+    }
+
+    /**
+     * Records a latency of {@code nanos} in the histogram named {@code name}.
+     */
+    public void recordLatency(String name, long nanos) {
+        getHistogram(name).record(nanos);
+    }
+
+    public void increment(String name) {
+        add(name, 1);
+    }
+
+    /**
+     * Adds {@code amount} to the counter named {@code name}.
+     */
+    public void add(String name, long amount) {
+        requireNonNull(name);
+        LongAdder counter = counters.get(name);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(name, n -> new LongAdder());
+        }
+        counter.add(amount);
+    }
+
+    /**
+     * Returns the value of the counter named {@code name}, or 0 if nothing has been added to it.
+     */
+    public long getCount(String name) {
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Returns the metrics as tables of latency percentiles in milliseconds and of counters, in order of name.
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder(String.format("%-24s %8s %9s %9s %9s %9s%n",
+                "Latency (ms)", "count", "p50", "p90", "p99", "max"));
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(histograms).entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            builder.append(String.format("%-24s %8d %9.3f %9.3f %9.3f %9.3f%n", entry.getKey(),
+                    histogram.getCount(), histogram.getPercentile(50) / 1e6, histogram.getPercentile(90) / 1e6,
+                    histogram.getPercentile(99) / 1e6, histogram.getMax() / 1e6));
+        }
+        builder.append(String.format("%-24s %8s%n", "Counter", "value"));
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(counters).entrySet()) {
+            builder.append(String.format("%-24s %8d%n", entry.getKey(), entry.getValue().sum()));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
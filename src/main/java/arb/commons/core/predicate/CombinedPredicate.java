@@ -1,14 +1,27 @@
 package arb.commons.core.predicate;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
-/** A predicate that tests an Object of type T against all given predicates. */
+/**
+ * A predicate that tests an Object of type T against all given predicates.
+ *
+ * The predicates are tested in order of their estimated cost for each item they rule out, so that cheap predicates
+ * that fail often are tested before expensive ones. Predicates that are not {@code EstimablePredicate}s are assumed
+ * to be moderately expensive and selective.
+ */
 public class CombinedPredicate<T> implements Predicate<T> {
+    public static final double DEFAULT_ESTIMATED_COST = 10;
+    public static final double DEFAULT_ESTIMATED_SELECTIVITY = 0.5;
+
     private final Set<Predicate<T>> predicates;
+    private final List<Predicate<T>> plan;
 
     /**
      * Constructs a {@code CombinedPredicate} using the given list {@code predicates}.
@@ -16,12 +29,71 @@ public class CombinedPredicate<T> implements Predicate<T> {
      */
     public CombinedPredicate(List<Predicate<T>> predicates) {
         assert !predicates.isEmpty() : "There should be at least one predicate";
-        this.predicates = predicates.stream().collect(Collectors.toSet());
+        this.predicates = new LinkedHashSet<>(predicates);
+        this.plan = new ArrayList<>(this.predicates);
+        plan.sort(Comparator.comparingDouble(CombinedPredicate::getRank));
+    }
+
+    public Set<Predicate<T>> getPredicates() {
+        return Collections.unmodifiableSet(predicates);
+    }
+
+    /**
+     * Returns the predicates in the order they are tested.
+     */
+    public List<Predicate<T>> getPlan() {
+        return Collections.unmodifiableList(plan);
+    }
+
+    /**
+     * Returns the estimated cost of testing an item against {@code predicate}.
+     */
+    public static double getEstimatedCost(Predicate<?> predicate) {
+        return predicate instanceof EstimablePredicate
+                ? ((EstimablePredicate<?>) predicate).getEstimatedCost()
+                : DEFAULT_ESTIMATED_COST;
+    }
+
+    /**
+     * Returns the estimated fraction of items that pass {@code predicate}.
+     */
+    public static double getEstimatedSelectivity(Predicate<?> predicate) {
+        return predicate instanceof EstimablePredicate
+                ? ((EstimablePredicate<?>) predicate).getEstimatedSelectivity()
+                : DEFAULT_ESTIMATED_SELECTIVITY;
+    }
+
+    /**
+     * Returns the estimated cost of {@code predicate} for each item it rules out. Testing predicates in increasing
+     * order of rank minimises the expected cost of testing an item against all of them.
+     */
+    private static double getRank(Predicate<?> predicate) {
+        double selectivity = getEstimatedSelectivity(predicate);
+        return selectivity >= 1
+                ? Double.POSITIVE_INFINITY
+                : getEstimatedCost(predicate) / (1 - selectivity);
+    }
+
+    /**
+     * Returns a description of the order the predicates are tested in, with their estimated costs and selectivities.
+     */
+    public String explain() {
+        StringBuilder sb = new StringBuilder("Test ");
+        for (Predicate<T> p : plan) {
+            sb.append(String.format("[%s] (cost %.1f, passes %.0f%%), then ", p.toString().replace('\n', ' '),
+                    getEstimatedCost(p), getEstimatedSelectivity(p) * 100));
+        }
+        return sb.delete(sb.length() - ", then ".length(), sb.length()).toString();
     }
 
     @Override
     public boolean test(T toTest) {
-        return predicates.stream().allMatch(pre -> pre.test(toTest));
+        for (Predicate<T> p : plan) {
+            if (!p.test(toTest)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,42 @@
+package arb.commons.core.predicate;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate that can estimate how expensive it is to test and how many items pass it, so that a
+ * {@code CombinedPredicate} can test first the predicates most likely to rule an item out cheaply.
+ */
+public interface EstimablePredicate<T> extends Predicate<T> {
+
+    /**
+     * The estimated cost of matching one keyword against the words of a piece of text, which are split once and
+     * cached.
+     */
+    double KEYWORD_COST = 2;
+    /** The estimated fraction of items whose text contains one keyword as a word. */
+    double KEYWORD_SELECTIVITY = 0.1;
+
+    /**
+     * Returns the estimated cost of testing an item, relative to comparing a single field, which costs 1.
+     */
+    double getEstimatedCost();
+
+    /**
+     * Returns the estimated fraction of items that pass this predicate, from 0 to 1.
+     */
+    double getEstimatedSelectivity();
+
+    /**
+     * Returns the estimated cost of testing whether a piece of text contains any of {@code keywordCount} keywords.
+     */
+    static double estimateKeywordCost(int keywordCount) {
+        return KEYWORD_COST * keywordCount;
+    }
+
+    /**
+     * Returns the estimated fraction of items whose text contains any of {@code keywordCount} keywords.
+     */
+    static double estimateKeywordSelectivity(int keywordCount) {
+        return Math.min(1, KEYWORD_SELECTIVITY * keywordCount);
+    }
+}
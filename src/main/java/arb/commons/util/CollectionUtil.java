@@ -2,10 +2,15 @@ package arb.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
@@ -43,4 +48,22 @@ public class CollectionUtil {
         keywordsIterator.forEachRemaining(s -> sb.append(s + ", "));
         return sb.delete(sb.length() - 2, sb.length()).toString();
     }
+
+    /**
+     * Returns the elements of {@code items} that share the same key, as given by {@code keyExtractor}, with an
+     * earlier element of {@code items}. The elements are checked in a single pass, so that each key is extracted
+     * and hashed exactly once.
+     */
+    public static <T, K> List<T> findDuplicates(Collection<? extends T> items,
+            Function<? super T, ? extends K> keyExtractor) {
+        requireAllNonNull(items, keyExtractor);
+        Set<K> seenKeys = new HashSet<>();
+        List<T> duplicates = new ArrayList<>();
+        for (T item : items) {
+            if (!seenKeys.add(keyExtractor.apply(item))) {
+                duplicates.add(item);
+            }
+        }
+        return duplicates;
+    }
 }
@@ -5,6 +5,7 @@ import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -75,9 +76,25 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     *
+     * @return the number of bytes written.
      */
-    public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+    public static int writeToFile(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        Files.write(file, bytes);
+        return bytes.length;
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     *
+     * @return the number of bytes written.
+     */
+    public static int appendToFile(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        Files.write(file, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        return bytes.length;
     }
 
 }
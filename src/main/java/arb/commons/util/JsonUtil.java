@@ -3,6 +3,8 @@ package arb.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -110,6 +114,35 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any line breaks
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in a single line string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Returns a parser that reads JSON data from {@code reader} one token at a time.
+     * Values read with {@link JsonParser#readValueAs(Class)} are converted in the same way as
+     * {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createParser(Reader reader) throws IOException {
+        requireNonNull(reader);
+        return objectMapper.getFactory().createParser(reader);
+    }
+
+    /**
+     * Returns a generator that writes JSON data to {@code writer} one token at a time, formatted in the same way
+     * as {@link #toJsonString(Object)}.
+     */
+    public static JsonGenerator createGenerator(Writer writer) throws IOException {
+        requireNonNull(writer);
+        return objectMapper.getFactory().createGenerator(writer).useDefaultPrettyPrinter();
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
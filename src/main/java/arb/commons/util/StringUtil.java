@@ -28,9 +28,7 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        String preppedWord = prepWord(word);
 
         String preppedSentence = sentence;
         String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
@@ -39,6 +37,62 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words in {@code sentence}, which are separated by whitespace, in lower case.
+     * The words can be searched with {@link #containsWord(String[], String)}.
+     * @param sentence cannot be null
+     */
+    public static String[] toLowerCaseWords(String sentence) {
+        requireNonNull(sentence);
+        String trimmedSentence = sentence.trim();
+        return trimmedSentence.isEmpty()
+                ? new String[0]
+                : toLowerCase(trimmedSentence).split("\\s+");
+    }
+
+    /**
+     * Returns {@code word}, trimmed and in lower case, so that it can be searched for with
+     * {@link #containsWord(String[], String)}.
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static String toLowerCaseWord(String word) {
+        requireNonNull(word);
+        return toLowerCase(prepWord(word));
+    }
+
+    /**
+     * Returns {@code s} with every character in lower case, in the way {@link String#equalsIgnoreCase(String)}
+     * compares characters, so that two strings are equal ignoring case exactly when their lower case forms are equal.
+     * Unlike {@link String#toLowerCase()}, the result does not depend on the locale and has the same length.
+     */
+    public static String toLowerCase(String s) {
+        char[] chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static String prepWord(String word) {
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        return preppedWord;
+    }
+
+    /**
+     * Returns true if {@code words}, as returned by {@link #toLowerCaseWords(String)}, contain
+     * {@code lowerCaseWord}, which must be a single word in lower case.
+     */
+    public static boolean containsWord(String[] words, String lowerCaseWord) {
+        for (String w : words) {
+            if (w.equals(lowerCaseWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,6 +1,7 @@
 package arb.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import arb.commons.core.GuiSettings;
 import arb.logic.commands.CommandResult;
@@ -40,6 +41,13 @@ public interface Logic {
      */
     void setLinkMode(boolean isInLinkMode);
 
+    /**
+     * Sets the handler to notify with an error message when saving the data fails
+     * after the command that changed the data has returned.
+     * The handler may be notified from a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the AddressBook.
      *
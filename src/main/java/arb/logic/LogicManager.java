@@ -1,11 +1,16 @@
 package arb.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Locale;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import arb.commons.core.GuiSettings;
 import arb.commons.core.LogsCenter;
+import arb.commons.core.metrics.MetricsRegistry;
 import arb.logic.commands.Command;
 import arb.logic.commands.CommandResult;
 import arb.logic.commands.exceptions.CommandException;
@@ -25,11 +30,16 @@ import javafx.collections.ObservableList;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    /** The command type that latencies of commands entered in link mode are recorded under. */
+    public static final String LINK_MODE_COMMAND_TYPE = "(link mode)";
+    /** The command type that latencies of commands that could not be parsed are recorded under. */
+    public static final String INVALID_COMMAND_TYPE = "(invalid)";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final MetricsRegistry metrics;
 
     private ListType currentListType;
     private boolean isInLinkMode;
@@ -38,31 +48,55 @@ public class LogicManager implements Logic {
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, MetricsRegistry.getDefault());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which records how long
+     * commands take in {@code metrics}.
+     */
+    public LogicManager(Model model, Storage storage, MetricsRegistry metrics) {
         this.model = model;
         this.storage = storage;
+        this.metrics = metrics;
         addressBookParser = new AddressBookParser();
         isInLinkMode = false;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
-
-        CommandResult commandResult;
-        Command command;
-        if (isInLinkMode) {
-            command = addressBookParser.parseIndex(commandText);
-        } else {
-            command = addressBookParser.parseCommand(commandText);
-        }
-        commandResult = command.execute(model, currentListType);
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+
+        long start = System.nanoTime();
+        String commandType = INVALID_COMMAND_TYPE;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            Command command;
+            if (isInLinkMode) {
+                command = addressBookParser.parseIndex(commandText);
+                commandType = LINK_MODE_COMMAND_TYPE;
+            } else {
+                command = addressBookParser.parseCommand(commandText);
+                commandType = commandText.trim().split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+            }
+            long parsed = System.nanoTime();
+            metrics.recordLatency(MetricsRegistry.PARSE_LATENCY, parsed - start);
+
+            CommandResult commandResult = command.execute(model, currentListType);
+            long executed = System.nanoTime();
+            metrics.recordLatency(MetricsRegistry.EXECUTE_LATENCY, executed - parsed);
+
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            } finally {
+                metrics.recordLatency(MetricsRegistry.SAVE_LATENCY, System.nanoTime() - executed);
+            }
+
+            return commandResult;
+        } finally {
+            metrics.recordLatency(MetricsRegistry.COMMAND_LATENCY_PREFIX + commandType, System.nanoTime() - start);
         }
-
-        return commandResult;
     }
 
     @Override
@@ -75,6 +109,12 @@ public class LogicManager implements Logic {
         this.isInLinkMode = isInLinkMode;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -0,0 +1,98 @@
+package arb.logic.batch;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+import arb.commons.core.LogsCenter;
+import arb.logic.Logic;
+import arb.logic.LogicManager;
+import arb.logic.commands.CommandResult;
+import arb.logic.commands.exceptions.CommandException;
+import arb.logic.parser.exceptions.ParseException;
+import arb.model.ListType;
+
+/**
+ * Runs the commands in a script through {@code Logic}, one command per line, without a UI.
+ *
+ * Commands are run the same way as when they are typed into the command box: the client list is shown at the
+ * start, and commands switch the list shown and enter link mode as they would in the UI. Blank lines and lines
+ * starting with {@code #} are skipped. A command that fails is reported and the script carries on, until the
+ * script ends or an exit command is run.
+ */
+public class BatchCommandRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String LINK_MODE_COMMAND_TYPE = LogicManager.LINK_MODE_COMMAND_TYPE;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchCommandRunner.class);
+
+    private final Logic logic;
+    private final PrintStream errors;
+
+    /**
+     * Creates a {@code BatchCommandRunner} that runs commands through {@code logic}, and reports commands that
+     * fail to {@code errors}.
+     */
+    public BatchCommandRunner(Logic logic, PrintStream errors) {
+        requireNonNull(logic);
+        requireNonNull(errors);
+        this.logic = logic;
+        this.errors = errors;
+    }
+
+    /**
+     * Runs each command in {@code script} and returns how long they took.
+     *
+     * @throws IOException if the script could not be read.
+     */
+    public BatchReport run(BufferedReader script) throws IOException {
+        requireNonNull(script);
+        BatchReport report = new BatchReport();
+        logic.setListType(ListType.CLIENT);
+        boolean isInLinkMode = false;
+
+        long start = System.nanoTime();
+        int lineNumber = 0;
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            String commandType = isInLinkMode ? LINK_MODE_COMMAND_TYPE : getCommandWord(commandText);
+            long commandStart = System.nanoTime();
+            try {
+                CommandResult result = logic.execute(commandText);
+                report.record(commandType, System.nanoTime() - commandStart, true);
+
+                isInLinkMode = result.shouldEnterLinkMode();
+                logic.setLinkMode(isInLinkMode);
+                if (result.getListToBeShown() != ListType.NONE) {
+                    logic.setListType(result.getListToBeShown());
+                }
+                if (result.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                report.record(commandType, System.nanoTime() - commandStart, false);
+                errors.println("Line " + lineNumber + ": " + commandText + "\n    " + e.getMessage());
+            }
+        }
+        report.setElapsedNanos(System.nanoTime() - start);
+
+        logger.info("Ran " + report.getCommandCount() + " commands from batch script, "
+                + report.getFailureCount() + " failed");
+        return report;
+    }
+
+    private static String getCommandWord(String commandText) {
+        return commandText.split("\\s+", 2)[0].toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,118 @@
+package arb.logic.batch;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The latencies of the commands run from a batch script, by type of command, and how many commands were run
+ * per second overall.
+ */
+public class BatchReport {
+
+    private final Map<String, Latencies> latenciesByCommandType = new TreeMap<>();
+    private int commandCount;
+    private int failureCount;
+    private long elapsedNanos;
+
+    /**
+     * Records that a command of {@code commandType} took {@code nanos} to run.
+     */
+    void record(String commandType, long nanos, boolean isSuccessful) {
+        latenciesByCommandType.computeIfAbsent(commandType, type -> new Latencies()).add(nanos);
+        commandCount++;
+        if (!isSuccessful) {
+            failureCount++;
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of commands run per second, over the time taken to run the whole script.
+     */
+    public double getCommandsPerSecond() {
+        return elapsedNanos == 0 ? 0 : commandCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    /**
+     * Returns the command types that were run, in alphabetical order.
+     */
+    public Iterable<String> getCommandTypes() {
+        return latenciesByCommandType.keySet();
+    }
+
+    public int getCommandCount(String commandType) {
+        return latenciesByCommandType.get(commandType).size;
+    }
+
+    /**
+     * Returns the latency in nanoseconds that {@code percentile} percent of the commands of {@code commandType}
+     * took at most, by the nearest rank method.
+     */
+    public long getPercentile(String commandType, double percentile) {
+        return latenciesByCommandType.get(commandType).getPercentile(percentile);
+    }
+
+    /**
+     * Returns the report as a table, with a row of latency percentiles in milliseconds for each command type.
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder(String.format(
+                "Ran %d commands (%d failed) in %.3f s: %.1f commands/s%n", commandCount, failureCount,
+                elapsedNanos / 1e9, getCommandsPerSecond()));
+        builder.append(String.format("%-20s %8s %10s %10s %10s %10s%n",
+                "command", "count", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        latenciesByCommandType.forEach((commandType, latencies) -> builder.append(String.format(
+                "%-20s %8d %10.3f %10.3f %10.3f %10.3f%n", commandType, latencies.size,
+                latencies.getPercentile(50) / 1e6, latencies.getPercentile(90) / 1e6,
+                latencies.getPercentile(99) / 1e6, latencies.getPercentile(100) / 1e6)));
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    /**
+     * The latencies of one type of command, sorted when a percentile is asked for.
+     */
+    private static class Latencies {
+        private long[] nanos = new long[16];
+        private int size;
+        private boolean isSorted = true;
+
+        private void add(long latency) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = latency;
+            isSorted = false;
+        }
+
+        private long getPercentile(double percentile) {
+            if (!isSorted) {
+                Arrays.sort(nanos, 0, size);
+                isSorted = true;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * size);
+            return nanos[Math.max(0, Math.min(size - 1, rank - 1))];
+        }
+    }
+}
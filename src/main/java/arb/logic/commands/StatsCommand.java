@@ -0,0 +1,49 @@
+package arb.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import arb.commons.core.metrics.MetricsRegistry;
+import arb.model.ListType;
+import arb.model.Model;
+
+/**
+ * Shows how long commands have taken and how much has been saved since the app started.
+ */
+public class StatsCommand extends Command {
+
+    private static final String MAIN_COMMAND_WORD = "stats";
+    private static final Set<String> COMMAND_WORDS = new HashSet<>(Arrays.asList(MAIN_COMMAND_WORD));
+
+    public static final String MESSAGE_USAGE = MAIN_COMMAND_WORD + ": Shows how long commands have taken "
+            + "and how much data has been saved.\n"
+            + "Example: " + MAIN_COMMAND_WORD;
+
+    private final MetricsRegistry metrics;
+
+    public StatsCommand() {
+        this(MetricsRegistry.getDefault());
+    }
+
+    /**
+     * Creates a {@code StatsCommand} to show the metrics recorded in {@code metrics}.
+     */
+    public StatsCommand(MetricsRegistry metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model, ListType currentListBeingShown) {
+        return new CommandResult(metrics.format(), ListType.NONE);
+    }
+
+    /** Get all valid command words as an unmodifiable set. */
+    public static Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(COMMAND_WORDS);
+    }
+}
@@ -22,6 +22,7 @@ import arb.model.project.Project;
 public class FindProjectCommand extends Command {
 
     public static final String MESSAGE_END_BEFORE_START_ERROR = "End date cannot be before start date.";
+    public static final String MESSAGE_PLAN = "Plan: %1$s";
 
     private static final String MAIN_COMMAND_WORD = "find-project";
     private static final String ALIAS_COMMAND_WORD = "fp";
@@ -31,33 +32,47 @@ public class FindProjectCommand extends Command {
     public static final String MESSAGE_USAGE = MAIN_COMMAND_WORD + ": Finds all projects whose names contain any of "
             + "the specified keywords (case-insensitive), contains any of the tags given (case-insensitive), "
             + "falls within the given timeframe, is linked to the client with the provided client name keywords "
-            + "and has the given status and displays them as a list with index numbers.\n"
+            + "and has the given status and displays them as a list with index numbers. "
+            + "With explain/, also shows how the projects were found.\n"
             + "Parameters: [name/NAME]* [start/START_OF_TIMEFRAME] [end/END_OF_TIMEFRAME] [status/STATUS] "
-            + "[tag/TAG]* [client/CLIENT]*\n"
+            + "[tag/TAG]* [client/CLIENT]* [explain/]\n"
             + "Example: " + MAIN_COMMAND_WORD + " name/sculpture name/digital status/not done client/alice "
             + "tag/personal start/last week end/next year";
 
     private final Predicate<Project> predicate;
+    private final boolean isExplained;
 
     public FindProjectCommand(Predicate<Project> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindProjectCommand to find the projects matching {@code predicate}, which also shows how the
+     * projects were found if {@code isExplained}.
+     */
+    public FindProjectCommand(Predicate<Project> predicate, boolean isExplained) {
         this.predicate = predicate;
+        this.isExplained = isExplained;
     }
 
     @Override
     public CommandResult execute(Model model, ListType currentListBeingShown) {
         requireNonNull(model);
         model.updateFilteredProjectList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PROJECTS_LISTED_OVERVIEW, model.getFilteredProjectList().size())
-                + "\n" + predicate,
-                ListType.PROJECT);
+        String feedback = String.format(Messages.MESSAGE_PROJECTS_LISTED_OVERVIEW,
+                model.getFilteredProjectList().size()) + "\n" + predicate;
+        if (isExplained) {
+            feedback += "\n" + String.format(MESSAGE_PLAN, model.explainFilteredProjectList());
+        }
+        return new CommandResult(feedback, ListType.PROJECT);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindProjectCommand // instanceof handles nulls
-                && predicate.equals(((FindProjectCommand) other).predicate)); // state check
+                && predicate.equals(((FindProjectCommand) other).predicate) // state check
+                && isExplained == ((FindProjectCommand) other).isExplained);
     }
 
     /** Get all valid command words as an unmodifiable set. */
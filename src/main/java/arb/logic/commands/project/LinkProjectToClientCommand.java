@@ -39,7 +39,7 @@ public class LinkProjectToClientCommand extends Command {
      */
     public LinkProjectToClientCommand(Index targetIndex) {
         this.targetIndex = targetIndex;
-        logger.info("Inputted index: " + this.targetIndex.getOneBased());
+        logger.info(() -> "Inputted index: " + targetIndex.getOneBased());
     }
 
     @Override
@@ -10,6 +10,7 @@ import java.util.regex.Pattern;
 import arb.logic.commands.Command;
 import arb.logic.commands.ExitCommand;
 import arb.logic.commands.HelpCommand;
+import arb.logic.commands.StatsCommand;
 import arb.logic.commands.client.AddClientCommand;
 import arb.logic.commands.client.ClearClientCommand;
 import arb.logic.commands.client.DeleteClientCommand;
@@ -105,6 +106,8 @@ public class AddressBookParser {
             return new ExitCommand();
         } else if (isCommandWord(HelpCommand.getCommandWords(), commandWord)) {
             return new HelpCommand();
+        } else if (isCommandWord(StatsCommand.getCommandWords(), commandWord)) {
+            return new StatsCommand();
         } else {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
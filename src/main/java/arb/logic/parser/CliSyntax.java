@@ -17,4 +17,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_STATUS = new Prefix("status/", "st/");
     public static final Prefix PREFIX_START = new Prefix("start/", "s/");
     public static final Prefix PREFIX_END = new Prefix("end/", "e/");
+    public static final Prefix PREFIX_EXPLAIN = new Prefix("explain/", "ex/");
 }
@@ -178,10 +178,7 @@ public class ParserUtil {
         if (trimmedDeadline.isEmpty()) {
             return null;
         }
-        if (!Deadline.isValidDeadline(trimmedDeadline)) {
-            throw new ParseException(Deadline.MESSAGE_CONSTRAINTS);
-        }
-        return new Deadline(trimmedDeadline);
+        return Deadline.parse(trimmedDeadline).orElseThrow(() -> new ParseException(Deadline.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -6,6 +6,7 @@ import static arb.commons.util.StringUtil.splitKeywords;
 import static arb.logic.parser.ArgumentMultimap.areAnyPrefixesPresent;
 import static arb.logic.parser.CliSyntax.PREFIX_CLIENT;
 import static arb.logic.parser.CliSyntax.PREFIX_END;
+import static arb.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static arb.logic.parser.CliSyntax.PREFIX_NAME;
 import static arb.logic.parser.CliSyntax.PREFIX_START;
 import static arb.logic.parser.CliSyntax.PREFIX_STATUS;
@@ -50,7 +51,7 @@ public class FindProjectCommandParser implements Parser<FindProjectCommand> {
     public FindProjectCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args,
-                PREFIX_NAME, PREFIX_STATUS, PREFIX_START, PREFIX_END, PREFIX_TAG, PREFIX_CLIENT);
+                PREFIX_NAME, PREFIX_STATUS, PREFIX_START, PREFIX_END, PREFIX_TAG, PREFIX_CLIENT, PREFIX_EXPLAIN);
 
         if (!areAnyPrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_STATUS, PREFIX_START,
                 PREFIX_END, PREFIX_TAG, PREFIX_CLIENT) || !argMultimap.getPreamble().isEmpty()) {
@@ -119,7 +120,9 @@ public class FindProjectCommandParser implements Parser<FindProjectCommand> {
             throw new ParseException(MESSAGE_NO_VALID_PARAMETERS);
         }
 
-        return new FindProjectCommand(new CombinedPredicate<>(predicates));
+        // explain/ takes no value, and only asks for the plan to be shown
+        boolean isExplained = argMultimap.getValue(PREFIX_EXPLAIN).isPresent();
+        return new FindProjectCommand(new CombinedPredicate<>(predicates), isExplained);
     }
 
 }
@@ -2,9 +2,14 @@ package arb.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,10 +17,14 @@ import arb.commons.core.LogsCenter;
 import arb.model.client.Client;
 import arb.model.client.Name;
 import arb.model.client.UniqueClientList;
+import arb.model.project.Deadline;
 import arb.model.project.Project;
+import arb.model.project.Revenue;
 import arb.model.project.UniqueProjectList;
+import arb.model.tag.Tag;
 import arb.model.tag.TagMapping;
 import arb.model.tag.UniqueTagMappingList;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 /**
@@ -32,6 +41,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueTagMappingList tagMappings;
 
     private Optional<Project> projectToLink;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -45,6 +55,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         projects = new UniqueProjectList();
         tagMappings = new UniqueTagMappingList();
         projectToLink = Optional.empty();
+
+        ListChangeListener<Object> modificationListener = change -> modificationCount++;
+        clients.asUnmodifiableObservableList().addListener(modificationListener);
+        projects.asUnmodifiableObservableList().addListener(modificationListener);
+        tagMappings.asUnmodifiableObservableList().addListener(modificationListener);
     }
 
     public AddressBook() {}
@@ -236,7 +251,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         clients.unlinkClientFromProject(projectToLink.get());
         projects.linkProjectToClient(projectToLink.get(), client);
         clients.linkClientToProject(client, projectToLink.get());
-        logger.info("Linking project " + projectToLink.get() + " to client " + client);
+        logger.info(() -> "Linking project " + projectToLink.get() + " to client " + client);
         this.projectToLink = Optional.empty();
     }
 
@@ -245,6 +260,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void linkProjectToClient(Name clientName, Project toLink) {
         clients.linkClientToProject(clientName, toLink);
+        // the client is linked in place, without a change to the client list
+        modificationCount++;
     }
 
     /**
@@ -292,6 +309,78 @@ public class AddressBook implements ReadOnlyAddressBook {
         return projects.noNotDoneProjects();
     }
 
+    /**
+     * Returns the revenue from all projects with prices.
+     */
+    public Revenue getRevenue() {
+        return projects.getRevenue();
+    }
+
+    /**
+     * Returns the revenue from projects with prices, by the name of the client they are linked to.
+     */
+    public Map<Name, Revenue> getRevenueByClient() {
+        return projects.getRevenueByClient();
+    }
+
+    /**
+     * Returns the revenue from projects with prices, by the tags they have.
+     */
+    public Map<Tag, Revenue> getRevenueByTag() {
+        return projects.getRevenueByTag();
+    }
+
+    /**
+     * Returns the revenue from projects with prices, by the month of their deadlines, in order of month.
+     */
+    public SortedMap<YearMonth, Revenue> getRevenueByMonth() {
+        return projects.getRevenueByMonth();
+    }
+
+    /**
+     * Returns the clients whose names contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Client> getClientsWithNameContainingAny(Collection<String> keywords) {
+        return clients.getClientsWithNameContainingAny(keywords);
+    }
+
+    /**
+     * Returns the projects whose titles contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Project> getProjectsWithTitleContainingAny(Collection<String> keywords) {
+        return projects.getProjectsWithTitleContainingAny(keywords);
+    }
+
+    /**
+     * Returns the projects whose linked clients' names contain any of {@code keywords} as a whole word,
+     * ignoring case.
+     */
+    public Set<Project> getProjectsWithClientNameContainingAny(Collection<String> keywords) {
+        return projects.getProjectsWithClientNameContainingAny(keywords);
+    }
+
+    /**
+     * Returns the clients tagged by any of {@code tags}.
+     */
+    public Set<Client> getClientsTaggedWithAny(Collection<Tag> tags) {
+        return tagMappings.getClientsTaggedWithAny(tags);
+    }
+
+    /**
+     * Returns the projects tagged by any of {@code tags}.
+     */
+    public Set<Project> getProjectsTaggedWithAny(Collection<Tag> tags) {
+        return tagMappings.getProjectsTaggedWithAny(tags);
+    }
+
+    /**
+     * Returns the projects with deadlines from {@code start} to {@code end} inclusive, in order of deadline.
+     * A null {@code start} or {@code end} leaves that end of the timeframe open.
+     */
+    public List<Project> getProjectsWithin(Deadline start, Deadline end) {
+        return projects.getProjectsWithin(start, end);
+    }
+
     //// util methods
 
     @Override
@@ -302,6 +391,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         // TODO: refine later
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public ObservableList<Client> getClientList() {
         return clients.asUnmodifiableObservableList();
@@ -0,0 +1,118 @@
+package arb.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import arb.commons.core.predicate.CombinedPredicate;
+
+/**
+ * Filters items by a predicate, some parts of which can be looked up in an index of the address book instead of
+ * being tested against every item. The rest of the predicate is only tested against the items found in the indexes.
+ *
+ * The rest of the predicate is tested in the order planned by {@code CombinedPredicate}.
+ *
+ * The items are looked up once, so items added to the address book afterwards must be passed to
+ * {@link #addItems(List)} before the filter is applied to them, and items removed from it to
+ * {@link #removeItems(List)}. An edited item that is replaced by itself is both removed and added.
+ *
+ * @param <T> the type of the items filtered.
+ */
+class IndexedFilter<T> implements Predicate<T> {
+
+    private final List<Predicate<T>> indexedPredicates;
+    private final Optional<CombinedPredicate<T>> otherPredicates;
+    private final Set<T> matchingItems;
+
+    private IndexedFilter(List<Predicate<T>> indexedPredicates, Optional<CombinedPredicate<T>> otherPredicates,
+            Set<T> matchingItems) {
+        this.indexedPredicates = indexedPredicates;
+        this.otherPredicates = otherPredicates;
+        this.matchingItems = matchingItems;
+    }
+
+    /**
+     * Returns an {@code IndexedFilter} for {@code predicate}, or {@code Optional.empty()} if no part of
+     * {@code predicate} can be looked up in an index.
+     *
+     * @param lookUp returns the items matching a predicate, told apart by identity, if the predicate can be looked
+     *     up in an index.
+     */
+    static <T> Optional<IndexedFilter<T>> of(Predicate<T> predicate, Function<Predicate<T>, Optional<Set<T>>> lookUp) {
+        Set<Predicate<T>> predicates = predicate instanceof CombinedPredicate
+                ? ((CombinedPredicate<T>) predicate).getPredicates()
+                : Collections.singleton(predicate);
+
+        List<Predicate<T>> indexedPredicates = new ArrayList<>();
+        List<Predicate<T>> otherPredicates = new ArrayList<>();
+        List<Set<T>> lookedUpItems = new ArrayList<>();
+        for (Predicate<T> p : predicates) {
+            Optional<Set<T>> items = lookUp.apply(p);
+            if (items.isPresent()) {
+                indexedPredicates.add(p);
+                lookedUpItems.add(items.get());
+            } else {
+                otherPredicates.add(p);
+            }
+        }
+        if (indexedPredicates.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // items must match every indexed predicate, so start from the fewest items
+        lookedUpItems.sort(Comparator.comparingInt(Set::size));
+        Set<T> matchingItems = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchingItems.addAll(lookedUpItems.get(0));
+        lookedUpItems.subList(1, lookedUpItems.size()).forEach(matchingItems::retainAll);
+
+        Optional<CombinedPredicate<T>> otherPredicate = otherPredicates.isEmpty()
+                ? Optional.empty()
+                : Optional.of(new CombinedPredicate<>(otherPredicates));
+        return Optional.of(new IndexedFilter<>(indexedPredicates, otherPredicate, matchingItems));
+    }
+
+    /**
+     * Includes {@code addedItems}, which have been added to the address book since this filter was created,
+     * in the filter.
+     */
+    void addItems(List<? extends T> addedItems) {
+        for (T item : addedItems) {
+            if (indexedPredicates.stream().allMatch(p -> p.test(item))) {
+                matchingItems.add(item);
+            }
+        }
+    }
+
+    /**
+     * Excludes {@code removedItems}, which have been removed from the address book since this filter was created,
+     * from the filter.
+     */
+    void removeItems(List<? extends T> removedItems) {
+        removedItems.forEach(matchingItems::remove);
+    }
+
+    /**
+     * Returns a description of the predicates looked up in indexes and the order the rest are tested in.
+     */
+    String explain() {
+        StringBuilder sb = new StringBuilder("Look up ");
+        for (Predicate<T> p : indexedPredicates) {
+            sb.append("[").append(p.toString().replace('\n', ' ')).append("], ");
+        }
+        sb.delete(sb.length() - 2, sb.length());
+        sb.append(" in indexes, finding ").append(matchingItems.size()).append(" items");
+        otherPredicates.ifPresent(p -> sb.append("; then ").append(p.explain()));
+        return sb.toString();
+    }
+
+    @Override
+    public boolean test(T item) {
+        return matchingItems.contains(item) && otherPredicates.map(p -> p.test(item)).orElse(true);
+    }
+}
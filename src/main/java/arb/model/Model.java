@@ -206,6 +206,12 @@ public interface Model {
      */
     void updateFilteredProjectList(Predicate<Project> predicate);
 
+    /**
+     * Returns a description of how the filtered project list is filtered, including the indexes that are used
+     * and the order in which the rest of the filter is tested.
+     */
+    String explainFilteredProjectList();
+
     /** Returns an unmodifiable view of the sorted client list */
     ObservableList<Client> getSortedClientList();
 
@@ -5,16 +5,30 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import arb.commons.core.GuiSettings;
 import arb.commons.core.LogsCenter;
+import arb.commons.core.metrics.MetricsRegistry;
+import arb.commons.core.predicate.CombinedPredicate;
 import arb.model.client.Client;
+import arb.model.client.predicates.ClientContainsTagsPredicate;
+import arb.model.client.predicates.NameContainsKeywordsPredicate;
 import arb.model.project.Project;
+import arb.model.project.predicates.LinkedClientNameContainsKeywordsPredicate;
+import arb.model.project.predicates.ProjectContainsTagsPredicate;
+import arb.model.project.predicates.ProjectWithinTimeframePredicate;
+import arb.model.project.predicates.TitleContainsKeywordsPredicate;
 import arb.model.tag.TagMapping;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
@@ -32,6 +46,13 @@ public class ModelManager implements Model {
     private final FilteredList<Project> filteredProjects;
     private final SortedList<Project> sortedProjects;
     private final ObservableList<TagMapping> tagMappings;
+    private Optional<IndexedFilter<Client>> indexedClientFilter = Optional.empty();
+    private Optional<IndexedFilter<Project>> indexedProjectFilter = Optional.empty();
+    // the predicates and comparators in use, so that the lists are only filtered and sorted again when they change
+    private Predicate<Client> clientPredicate = PREDICATE_SHOW_ALL_CLIENTS;
+    private Predicate<Project> projectPredicate = PREDICATE_SHOW_ALL_PROJECTS;
+    private Comparator<Client> clientComparator = CLIENT_NO_COMPARATOR;
+    private Comparator<Project> projectComparator = PROJECT_NO_COMPARATOR;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -39,10 +60,16 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // registered before the filtered lists' own listeners, so that added clients and projects are known to the
+        // indexed filters before the filtered lists test them
+        this.addressBook.getClientList().addListener((ListChangeListener<Client>) change ->
+                indexedClientFilter.ifPresent(filter -> updateIndexedFilter(filter, change)));
+        this.addressBook.getProjectList().addListener((ListChangeListener<Project>) change ->
+                indexedProjectFilter.ifPresent(filter -> updateIndexedFilter(filter, change)));
         filteredClients = new FilteredList<>(this.addressBook.getClientList());
         sortedClients = new SortedList<>(this.filteredClients);
         filteredProjects = new FilteredList<>(this.addressBook.getProjectList());
@@ -252,7 +279,33 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredClientList(Predicate<Client> predicate) {
         requireNonNull(predicate);
-        filteredClients.setPredicate(predicate);
+        if (predicate.equals(clientPredicate)) {
+            // the filtered list already keeps up with added, edited and removed clients
+            return;
+        }
+        clientPredicate = predicate;
+        // keywords and tags are looked up in the address book's indexes instead of being tested against every client
+        indexedClientFilter = IndexedFilter.of(predicate, this::lookUpClients);
+        filteredClients.setPredicate(indexedClientFilter.<Predicate<Client>>map(filter -> filter).orElse(predicate));
+        MetricsRegistry.getDefault().increment(MetricsRegistry.LIST_REFRESH_COUNT);
+        if (predicate != PREDICATE_SHOW_ALL_CLIENTS) {
+            logger.fine(() -> "Filtering clients: " + explainFilter(indexedClientFilter, predicate));
+        }
+    }
+
+    /**
+     * Returns the clients matching {@code predicate}, if it can be looked up in an index of the address book.
+     */
+    private Optional<Set<Client>> lookUpClients(Predicate<Client> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return Optional.of(addressBook.getClientsWithNameContainingAny(
+                    ((NameContainsKeywordsPredicate) predicate).getKeywords()));
+        }
+        if (predicate instanceof ClientContainsTagsPredicate) {
+            return Optional.of(addressBook.getClientsTaggedWithAny(
+                    ((ClientContainsTagsPredicate) predicate).getTags()));
+        }
+        return Optional.empty();
     }
 
     //=========== Filtered Project List Accessors ===========================================================
@@ -269,7 +322,77 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredProjectList(Predicate<Project> predicate) {
         requireNonNull(predicate);
-        filteredProjects.setPredicate(predicate);
+        if (predicate.equals(projectPredicate)) {
+            // the filtered list already keeps up with added, edited and removed projects
+            return;
+        }
+        projectPredicate = predicate;
+        // keywords, tags and timeframes are looked up in the address book's indexes instead of being tested against
+        // every project
+        indexedProjectFilter = IndexedFilter.of(predicate, this::lookUpProjects);
+        filteredProjects.setPredicate(indexedProjectFilter.<Predicate<Project>>map(filter -> filter)
+                .orElse(predicate));
+        MetricsRegistry.getDefault().increment(MetricsRegistry.LIST_REFRESH_COUNT);
+        if (predicate != PREDICATE_SHOW_ALL_PROJECTS) {
+            logger.fine(() -> "Filtering projects: " + explainFilter(indexedProjectFilter, predicate));
+        }
+    }
+
+    @Override
+    public String explainFilteredProjectList() {
+        return explainFilter(indexedProjectFilter, projectPredicate);
+    }
+
+    /**
+     * Returns the projects matching {@code predicate}, if it can be looked up in an index of the address book.
+     */
+    private Optional<Set<Project>> lookUpProjects(Predicate<Project> predicate) {
+        if (predicate instanceof TitleContainsKeywordsPredicate) {
+            return Optional.of(addressBook.getProjectsWithTitleContainingAny(
+                    ((TitleContainsKeywordsPredicate) predicate).getKeywords()));
+        }
+        if (predicate instanceof LinkedClientNameContainsKeywordsPredicate) {
+            return Optional.of(addressBook.getProjectsWithClientNameContainingAny(
+                    ((LinkedClientNameContainsKeywordsPredicate) predicate).getKeywords()));
+        }
+        if (predicate instanceof ProjectContainsTagsPredicate) {
+            return Optional.of(addressBook.getProjectsTaggedWithAny(
+                    ((ProjectContainsTagsPredicate) predicate).getTags()));
+        }
+        if (predicate instanceof ProjectWithinTimeframePredicate) {
+            ProjectWithinTimeframePredicate timeframePredicate = (ProjectWithinTimeframePredicate) predicate;
+            Set<Project> projects = Collections.newSetFromMap(new IdentityHashMap<>());
+            projects.addAll(addressBook.getProjectsWithin(timeframePredicate.getStart().orElse(null),
+                    timeframePredicate.getEnd().orElse(null)));
+            return Optional.of(projects);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a description of how a list is filtered by {@code predicate}, either through {@code indexedFilter}
+     * or by testing every item.
+     */
+    private static <T> String explainFilter(Optional<IndexedFilter<T>> indexedFilter, Predicate<T> predicate) {
+        if (indexedFilter.isPresent()) {
+            return indexedFilter.get().explain();
+        }
+        if (predicate instanceof CombinedPredicate) {
+            return "Scan all items; " + ((CombinedPredicate<T>) predicate).explain();
+        }
+        return "Scan all items; test [" + predicate.toString().replace('\n', ' ') + "]";
+    }
+
+    private static <T> void updateIndexedFilter(IndexedFilter<T> filter,
+            ListChangeListener.Change<? extends T> change) {
+        while (change.next()) {
+            if (change.wasRemoved()) {
+                filter.removeItems(change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                filter.addItems(change.getAddedSubList());
+            }
+        }
     }
 
     //=========== Sorted Client List Accessors ==============================================================
@@ -281,7 +404,12 @@ public class ModelManager implements Model {
 
     @Override
     public void updateSortedClientList(Comparator<Client> comparator) {
+        if (Objects.equals(comparator, clientComparator)) {
+            return;
+        }
+        clientComparator = comparator;
         sortedClients.setComparator(comparator);
+        MetricsRegistry.getDefault().increment(MetricsRegistry.LIST_REFRESH_COUNT);
     }
 
     //=========== Sorted Project List Accessors =============================================================
@@ -293,7 +421,12 @@ public class ModelManager implements Model {
 
     @Override
     public void updateSortedProjectList(Comparator<Project> comparator) {
+        if (Objects.equals(comparator, projectComparator)) {
+            return;
+        }
+        projectComparator = comparator;
         sortedProjects.setComparator(comparator);
+        MetricsRegistry.getDefault().increment(MetricsRegistry.LIST_REFRESH_COUNT);
     }
 
     //=========== Tag Mapping List Accessors ================================================================
@@ -27,4 +27,10 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate tag mappings.
      */
     ObservableList<TagMapping> getTagMappingList();
+
+    /**
+     * Returns the number of modifications made to the address book so far.
+     * The count changes whenever the data in the address book changes.
+     */
+    long getModificationCount();
 }
@@ -38,7 +38,7 @@ public class Client {
         this.phone = Optional.ofNullable(phone);
         this.email = Optional.ofNullable(email);
         this.tags.addAll(tags);
-        this.linkedProjects = new UniqueProjectList();
+        this.linkedProjects = UniqueProjectList.createUnindexed();
     }
 
     public Name getName() {
@@ -96,7 +96,7 @@ public class Client {
      * Unlinks all linked projects from this client.
      */
     public void unlinkAllProjects() {
-        linkedProjects.setProjects(new UniqueProjectList());
+        linkedProjects.setProjects(Collections.emptyList());
     }
 
     public int getNumberOfProjectsLinked() {
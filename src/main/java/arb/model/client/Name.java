@@ -3,6 +3,8 @@ package arb.model.client;
 import static arb.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import arb.commons.util.StringUtil;
+
 /**
  * Represents a Client's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +22,9 @@ public class Name implements Comparable<Name> {
 
     public final String fullName;
 
+    // split into words the first time the name is searched
+    private volatile String[] lowerCaseWords;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -38,6 +43,18 @@ public class Name implements Comparable<Name> {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if the name contains {@code lowerCaseWord}, which must be a single word in lower case,
+     * as a whole word. Equivalent to {@code StringUtil.containsWordIgnoreCase(fullName, lowerCaseWord)}.
+     */
+    public boolean containsWord(String lowerCaseWord) {
+        String[] words = lowerCaseWords;
+        if (words == null) {
+            words = StringUtil.toLowerCaseWords(fullName);
+            lowerCaseWords = words;
+        }
+        return StringUtil.containsWord(words, lowerCaseWord);
+    }
 
     @Override
     public String toString() {
@@ -1,16 +1,24 @@
 package arb.model.client;
 
+import static arb.commons.util.CollectionUtil.findDuplicates;
 import static arb.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import arb.model.client.exceptions.ClientNotFoundException;
 import arb.model.client.exceptions.DuplicateClientException;
 import arb.model.project.Project;
+import arb.model.util.KeywordIndex;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -21,6 +29,10 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniqueClientList. However, the removal of a client uses Client#equals(Object) so
  * as to ensure that the client with exactly the same fields will be removed.
  *
+ * Since a client's identity is its {@code Name}, the position of every client in the list is also indexed by name,
+ * allowing identity checks and lookups to be done without scanning the list. The words in clients' names are also
+ * indexed, so that clients can be found by keywords without scanning the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Client#isSameClient(Client)
@@ -30,13 +42,15 @@ public class UniqueClientList implements Iterable<Client> {
     private final ObservableList<Client> internalList = FXCollections.observableArrayList();
     private final ObservableList<Client> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> nameToIndex = new HashMap<>();
+    private final KeywordIndex<Client> nameKeywordIndex = new KeywordIndex<>();
 
     /**
      * Returns true if the list contains an equivalent client as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameClient);
+        return nameToIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -44,7 +58,7 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public boolean contains(Name toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(c -> c.getName().equals(toCheck));
+        return nameToIndex.containsKey(toCheck);
     }
 
     /**
@@ -56,7 +70,9 @@ public class UniqueClientList implements Iterable<Client> {
         if (contains(toAdd)) {
             throw new DuplicateClientException();
         }
+        nameToIndex.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
+        nameKeywordIndex.add(toAdd.getName().fullName, toAdd);
     }
 
     /**
@@ -67,7 +83,7 @@ public class UniqueClientList implements Iterable<Client> {
     public void setClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ClientNotFoundException();
         }
@@ -76,7 +92,11 @@ public class UniqueClientList implements Iterable<Client> {
             throw new DuplicateClientException();
         }
 
+        nameToIndex.remove(target.getName());
+        nameToIndex.put(editedClient.getName(), index);
         internalList.set(index, editedClient);
+        nameKeywordIndex.remove(target.getName().fullName, target);
+        nameKeywordIndex.add(editedClient.getName().fullName, editedClient);
     }
 
     /**
@@ -85,14 +105,23 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void remove(Client toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ClientNotFoundException();
         }
+
+        nameToIndex.remove(toRemove.getName());
+        internalList.remove(index);
+        reindexFrom(index);
+        nameKeywordIndex.remove(toRemove.getName().fullName, toRemove);
     }
 
     public void setClients(UniqueClientList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameToIndex.clear();
+        nameToIndex.putAll(replacement.nameToIndex);
+        rebuildNameKeywordIndex();
     }
 
     /**
@@ -101,28 +130,39 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public void setClients(List<Client> clients) {
         requireAllNonNull(clients);
-        if (!clientsAreUnique(clients)) {
-            throw new DuplicateClientException();
+        List<Client> duplicates = findDuplicates(clients, Client::getName);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateClientException(duplicates);
         }
 
         internalList.setAll(clients);
+        nameToIndex.clear();
+        reindexFrom(0);
+        rebuildNameKeywordIndex();
     }
 
     /**
-     * Unlinks all linked projects from the clients in the list.
+     * Replaces every client in the list with the result of applying {@code operator} to it.
+     * All replacements are applied in a single pass and published as a single change to the list.
+     * The replacement clients must not contain duplicate clients.
      */
-    public void resetProjectLinkings() {
-        internalList.stream().forEach(c -> unlinkAllProjectsFromClient(c));
+    public void replaceAll(UnaryOperator<Client> operator) {
+        requireNonNull(operator);
+        List<Client> replacements = new ArrayList<>(internalList.size());
+        for (Client client : internalList) {
+            replacements.add(operator.apply(client));
+        }
+        setClients(replacements);
     }
 
     /**
-     * Unlinks all linked projects from {@code client}.
+     * Unlinks all linked projects from the clients in the list.
      */
-    private void unlinkAllProjectsFromClient(Client client) {
-        requireNonNull(client);
-        assert contains(client);
-        client.unlinkAllProjects();
-        setClient(client, client);
+    public void resetProjectLinkings() {
+        replaceAll(c -> {
+            c.unlinkAllProjects();
+            return c;
+        });
     }
 
     /**
@@ -150,16 +190,16 @@ public class UniqueClientList implements Iterable<Client> {
      * Links the client with {@code clientName} to {@code project}.
      */
     public void linkClientToProject(Name clientName, Project project) {
+        requireAllNonNull(clientName, project);
         assert contains(clientName);
-        Iterator<Client> iterator = iterator();
-        while (iterator.hasNext()) {
-            Client toMatch = iterator.next();
-            if (toMatch.getName().equals(clientName)) {
-                toMatch.linkProject(project);
-                project.linkToClient(toMatch);
-                return;
-            }
+        Integer index = nameToIndex.get(clientName);
+        if (index == null) {
+            return;
         }
+
+        Client toMatch = internalList.get(index);
+        toMatch.linkProject(project);
+        project.linkToClient(toMatch);
     }
 
     /**
@@ -175,6 +215,13 @@ public class UniqueClientList implements Iterable<Client> {
         });
     }
 
+    /**
+     * Returns the clients whose names contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Client> getClientsWithNameContainingAny(Collection<String> keywords) {
+        return nameKeywordIndex.getItemsContainingAny(keywords);
+    }
+
     /**
      * Returns the number of clients in the list that fulfill {@code predicate}.
      */
@@ -189,6 +236,31 @@ public class UniqueClientList implements Iterable<Client> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the position of the client equal to {@code client} in the list, or -1 if there is no such client.
+     */
+    private int indexOf(Client client) {
+        Integer index = nameToIndex.get(client.getName());
+        if (index == null || !internalList.get(index).equals(client)) {
+            return -1;
+        }
+        return index;
+    }
+
+    private void rebuildNameKeywordIndex() {
+        nameKeywordIndex.clear();
+        internalList.forEach(client -> nameKeywordIndex.add(client.getName().fullName, client));
+    }
+
+    /**
+     * Updates the indexed positions of all clients from {@code startIndex} onwards to match the list.
+     */
+    private void reindexFrom(int startIndex) {
+        for (int i = startIndex; i < internalList.size(); i++) {
+            nameToIndex.put(internalList.get(i).getName(), i);
+        }
+    }
+
     @Override
     public Iterator<Client> iterator() {
         return internalList.iterator();
@@ -205,18 +277,4 @@ public class UniqueClientList implements Iterable<Client> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code clients} contains only unique clients.
-     */
-    private boolean clientsAreUnique(List<Client> clients) {
-        for (int i = 0; i < clients.size() - 1; i++) {
-            for (int j = i + 1; j < clients.size(); j++) {
-                if (clients.get(i).isSameClient(clients.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
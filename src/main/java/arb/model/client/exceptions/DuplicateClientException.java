@@ -1,5 +1,12 @@
 package arb.model.client.exceptions;
 
+import static arb.commons.util.CollectionUtil.keywordsToString;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import arb.model.client.Client;
+
 /**
  * Signals that the operation will result in duplicate Clients (Clients are considered duplicates if they have the same
  * identity).
@@ -8,4 +15,12 @@ public class DuplicateClientException extends RuntimeException {
     public DuplicateClientException() {
         super("Operation would result in duplicate clients");
     }
+
+    /**
+     * Constructs a {@code DuplicateClientException} that names the colliding {@code duplicates}.
+     */
+    public DuplicateClientException(List<Client> duplicates) {
+        super("Operation would result in duplicate clients: "
+                + keywordsToString(duplicates.stream().map(c -> c.getName().fullName).collect(Collectors.toList())));
+    }
 }
@@ -1,11 +1,12 @@
 package arb.model.client.predicates;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
+import arb.commons.core.predicate.EstimablePredicate;
 import arb.commons.util.CollectionUtil;
 import arb.commons.util.StringUtil;
 import arb.model.client.Client;
@@ -13,17 +14,44 @@ import arb.model.client.Client;
 /**
  * Tests that a {@code Client}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Client> {
+public class NameContainsKeywordsPredicate implements EstimablePredicate<Client> {
     private final Set<String> keywords;
+    private final String[] lowerCaseKeywords;
 
+    /**
+     * Constructs a predicate that matches any of the {@code keywords} in the name, ignoring case.
+     * @throws IllegalArgumentException if any keyword is empty or is not a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = new HashSet<>(keywords);
+        this.lowerCaseKeywords = this.keywords.stream()
+                .map(StringUtil::toLowerCaseWord)
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    public Set<String> getKeywords() {
+        return Collections.unmodifiableSet(keywords);
     }
 
     @Override
     public boolean test(Client client) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(client.getName().fullName, keyword));
+        for (String keyword : lowerCaseKeywords) {
+            if (client.getName().containsWord(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public double getEstimatedCost() {
+        return EstimablePredicate.estimateKeywordCost(keywords.size());
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return EstimablePredicate.estimateKeywordSelectivity(keywords.size());
     }
 
     @Override
@@ -3,11 +3,17 @@ package arb.model.project;
 import static arb.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
 
@@ -20,6 +26,16 @@ public class Deadline implements Comparable<Deadline> {
     public static final String MESSAGE_CONSTRAINTS =
             "Deadline must be in a recognisable format, e.g. DD/MM/YYYY or \'3pm tomorrow\'.";
 
+    private static final Pattern ISO_DATE_SHAPE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+    private static final Pattern ISO_DATE_TIME_SHAPE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T[\\d:.]+");
+    private static final Pattern DAY_MONTH_YEAR_SHAPE = Pattern.compile("\\d{1,2}/\\d{1,2}/\\d{4}");
+    private static final DateTimeFormatter DAY_MONTH_YEAR_FORMAT =
+            DateTimeFormatter.ofPattern("d/M/uuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    // PrettyTimeParser is expensive to create and is not documented as thread-safe, so each thread reuses its own
+    private static final ThreadLocal<PrettyTimeParser> naturalLanguageParser =
+            ThreadLocal.withInitial(PrettyTimeParser::new);
+
     public final LocalDateTime dueDate;
 
     /**
@@ -28,16 +44,31 @@ public class Deadline implements Comparable<Deadline> {
      */
     public Deadline(String date) {
         requireNonNull(date);
-        checkArgument(isValidDeadline(date), MESSAGE_CONSTRAINTS);
-        dueDate = parseDate(date);
+        Optional<LocalDateTime> parsedDate = parseDate(date);
+        checkArgument(parsedDate.isPresent(), MESSAGE_CONSTRAINTS);
+        dueDate = parsedDate.get();
     }
 
-    // @@author zrei-reused
-    // Reused from https://stackoverflow.com/questions/21242110/convert-java-util-date-to-java-time-localdate
-    // with minor modifications
-    private LocalDateTime parseDate(String dateString) {
-        Date date = getPossibleDatesFromDateString(dateString).get(0);
-        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+    private Deadline(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    /**
+     * Returns a {@code Deadline} due at {@code dueDate}, without parsing any text.
+     */
+    public static Deadline of(LocalDateTime dueDate) {
+        requireNonNull(dueDate);
+        return new Deadline(dueDate);
+    }
+
+    /**
+     * Returns the {@code Deadline} described by {@code date}, or {@code Optional.empty()} if {@code date} is not
+     * a valid deadline. This validates and parses {@code date} in one go, so callers that need the deadline should
+     * use this instead of {@link #isValidDeadline(String)} followed by {@link #Deadline(String)}.
+     */
+    public static Optional<Deadline> parse(String date) {
+        requireNonNull(date);
+        return parseDate(date).map(Deadline::new);
     }
 
     /**
@@ -46,12 +77,39 @@ public class Deadline implements Comparable<Deadline> {
      * @return True if valid.
      */
     public static boolean isValidDeadline(String test) {
-        List<Date> dates = getPossibleDatesFromDateString(test);
-        return dates.size() != 0;
+        return parseDate(test).isPresent();
+    }
+
+    /**
+     * Parses ISO dates, such as those stored in the data file, and DD/MM/YYYY dates directly,
+     * and only falls back to natural language processing for other forms.
+     */
+    private static Optional<LocalDateTime> parseDate(String dateString) {
+        String trimmedDate = dateString.trim();
+        try {
+            if (ISO_DATE_TIME_SHAPE.matcher(trimmedDate).matches()) {
+                return Optional.of(LocalDateTime.parse(trimmedDate));
+            }
+            // like natural language processing, dates without a time are due at the current time of day
+            if (ISO_DATE_SHAPE.matcher(trimmedDate).matches()) {
+                return Optional.of(LocalDate.parse(trimmedDate).atTime(LocalTime.now()));
+            }
+            if (DAY_MONTH_YEAR_SHAPE.matcher(trimmedDate).matches()) {
+                return Optional.of(LocalDate.parse(trimmedDate, DAY_MONTH_YEAR_FORMAT).atTime(LocalTime.now()));
+            }
+        } catch (DateTimeParseException dtpe) {
+            // not a real date, e.g. 31/02/2023, so leave it to natural language processing
+        }
+
+        List<Date> dates = naturalLanguageParser.get().parse(dateString);
+        return dates.isEmpty() ? Optional.empty() : Optional.of(toLocalDateTime(dates.get(0)));
     }
 
-    private static List<Date> getPossibleDatesFromDateString(String date) {
-        return new PrettyTimeParser().parse(date);
+    // @@author zrei-reused
+    // Reused from https://stackoverflow.com/questions/21242110/convert-java-util-date-to-java-time-localdate
+    // with minor modifications
+    private static LocalDateTime toLocalDateTime(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
     }
 
     @Override
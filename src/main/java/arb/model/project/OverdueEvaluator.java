@@ -0,0 +1,77 @@
+package arb.model.project;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Decides whether projects are overdue, i.e. not done and due before the start of today.
+ *
+ * The start of today is worked out once and reused until the clock passes midnight, so checking a project
+ * does not allocate or read the time zone rules.
+ */
+public class OverdueEvaluator {
+
+    private static final OverdueEvaluator systemEvaluator = new OverdueEvaluator(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private volatile Today today;
+
+    /**
+     * Creates an {@code OverdueEvaluator} that gets the current date from {@code clock}.
+     */
+    public OverdueEvaluator(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+        this.today = Today.of(clock);
+    }
+
+    /**
+     * Returns an {@code OverdueEvaluator} that uses the system clock in the default time zone.
+     */
+    public static OverdueEvaluator getSystemEvaluator() {
+        return systemEvaluator;
+    }
+
+    /**
+     * Returns true if {@code project} has a deadline before today and is not done.
+     */
+    public boolean isOverdue(Project project) {
+        return project.isDeadlinePresent()
+                && !project.getStatus().getStatus()
+                && project.getDeadline().dueDate.isBefore(getStartOfToday());
+    }
+
+    /**
+     * Returns the start of the current day according to the clock.
+     */
+    public LocalDateTime getStartOfToday() {
+        Today current = today;
+        if (clock.millis() >= current.endMillis) {
+            current = Today.of(clock);
+            today = current;
+        }
+        return current.start;
+    }
+
+    /**
+     * The start of a day, and the instant in milliseconds at which that day ends.
+     */
+    private static class Today {
+        private final LocalDateTime start;
+        private final long endMillis;
+
+        private Today(LocalDateTime start, long endMillis) {
+            this.start = start;
+            this.endMillis = endMillis;
+        }
+
+        private static Today of(Clock clock) {
+            LocalDate date = LocalDate.now(clock);
+            long endMillis = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+            return new Today(date.atStartOfDay(), endMillis);
+        }
+    }
+}
@@ -1,25 +1,26 @@
 package arb.model.project;
 
 import static arb.commons.util.AppUtil.checkArgument;
-import static java.lang.Double.compare;
 import static java.util.Objects.requireNonNull;
 
-import java.text.DecimalFormat;
-
 /**
  * Represents a Project's price in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
+ *
+ * The price is kept as a whole number of cents, so that prices can be added up exactly.
  */
 public class Price implements Comparable<Price> {
 
-
     public static final String MESSAGE_CONSTRAINTS =
             "Price must be in a recognisable format, e.g. 4098.09 or 380 or 0.35";
 
     public static final String VALIDATION_REGEX = "(([1-9]\\d{0,2})|(([1-9]\\d*)?\\d))(\\.\\d\\d)?$";
-    private static final DecimalFormat df = new DecimalFormat("0.00");
-    private double fullPrice;
 
+    // more dollars than this may not fit in a long number of cents
+    private static final int MAX_DOLLAR_DIGITS = 15;
+
+    private final long cents;
+    private final String text;
 
     /**
      * Constructs a {@code Price}.
@@ -28,7 +29,24 @@ public class Price implements Comparable<Price> {
     public Price(String price) {
         requireNonNull(price);
         checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS);
-        this.fullPrice = Double.parseDouble(price);
+        int point = price.indexOf('.');
+        this.cents = point == -1
+                ? Long.parseLong(price) * 100
+                : Long.parseLong(price.substring(0, point)) * 100 + Long.parseLong(price.substring(point + 1));
+        this.text = format(cents);
+    }
+
+    private Price(long cents) {
+        this.cents = cents;
+        this.text = format(cents);
+    }
+
+    /**
+     * Returns a {@code Price} of {@code cents}, which must not be negative.
+     */
+    public static Price ofCents(long cents) {
+        checkArgument(cents >= 0, MESSAGE_CONSTRAINTS);
+        return new Price(cents);
     }
 
     /**
@@ -37,31 +55,48 @@ public class Price implements Comparable<Price> {
      * @return True if valid.
      */
     public static boolean isValidPrice(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (!test.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+        int point = test.indexOf('.');
+        return (point == -1 ? test.length() : point) <= MAX_DOLLAR_DIGITS;
+    }
+
+    private static String format(long cents) {
+        long remainder = cents % 100;
+        return (cents / 100) + (remainder < 10 ? ".0" : ".") + remainder;
     }
 
+    /**
+     * Returns the price with two decimal places, e.g. 4098.90.
+     */
     public String getPrice() {
-        return df.format(this.fullPrice);
+        return text;
+    }
+
+    public long getCents() {
+        return cents;
     }
+
     @Override
     public String toString() {
-        return "Price: $" + getPrice();
+        return "Price: $" + text;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Price) // handles null
-                && fullPrice == (((Price) other).fullPrice); // check price
+                && cents == ((Price) other).cents; // check price
     }
 
     @Override
     public int compareTo(Price otherPrice) {
-        return compare(this.fullPrice, otherPrice.fullPrice);
+        return Long.compare(cents, otherPrice.cents);
     }
 
     @Override
     public int hashCode() {
-        return df.format(fullPrice).hashCode();
+        return Long.hashCode(cents);
     }
 }
@@ -3,15 +3,12 @@ package arb.model.project;
 import static arb.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
-import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.logging.Logger;
 
-import arb.commons.core.LogsCenter;
 import arb.model.client.Client;
 import arb.model.tag.Tag;
 
@@ -21,8 +18,6 @@ import arb.model.tag.Tag;
  */
 public class Project {
 
-    private static final Logger logger = LogsCenter.getLogger(Project.class);
-
     // Details fields. Deadline is optional.
     private final Title title;
     private final Optional<Deadline> deadline;
@@ -99,19 +94,10 @@ public class Project {
     }
 
     /**
-     * Returns true if this project has is overdue
+     * Returns true if this project is not done and was due before today, according to the system clock.
      */
     public boolean isOverdue() {
-        if (!isDeadlinePresent()) {
-            return false;
-        }
-
-        LocalDate currentDate = LocalDate.now();
-        logger.info(currentDate.toString());
-        Deadline currentDateAsDeadline = new Deadline(currentDate.toString());
-        logger.info(currentDateAsDeadline.toString());
-        logger.info(Integer.toString(this.getDeadline().compareTo(currentDateAsDeadline)));
-        return this.getDeadline().compareTo(currentDateAsDeadline) < 0 && !this.status.getStatus();
+        return OverdueEvaluator.getSystemEvaluator().isOverdue(this);
     }
 
     public Status getStatus() {
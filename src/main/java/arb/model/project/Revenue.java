@@ -0,0 +1,95 @@
+package arb.model.project;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Represents the total and average price of a group of projects with prices.
+ * Guarantees: immutable; the total is exact, however many projects there are.
+ */
+public class Revenue {
+
+    public static final Revenue NONE = new Revenue(BigInteger.ZERO, 0);
+
+    // a total of many prices may not fit in a long number of cents
+    private final BigInteger totalCents;
+    private final int numberOfProjects;
+
+    private Revenue(BigInteger totalCents, int numberOfProjects) {
+        this.totalCents = totalCents;
+        this.numberOfProjects = numberOfProjects;
+    }
+
+    /**
+     * Returns the {@code Revenue} of a single project with {@code price}.
+     */
+    public static Revenue of(Price price) {
+        requireNonNull(price);
+        return new Revenue(BigInteger.valueOf(price.getCents()), 1);
+    }
+
+    /**
+     * Returns the {@code Revenue} of the projects in both this and {@code other}.
+     */
+    public Revenue plus(Revenue other) {
+        return new Revenue(totalCents.add(other.totalCents), numberOfProjects + other.numberOfProjects);
+    }
+
+    /**
+     * Returns the {@code Revenue} of the projects in this but not in {@code other}, which must be part of this.
+     */
+    public Revenue minus(Revenue other) {
+        assert other.numberOfProjects <= numberOfProjects && other.totalCents.compareTo(totalCents) <= 0;
+        return new Revenue(totalCents.subtract(other.totalCents), numberOfProjects - other.numberOfProjects);
+    }
+
+    /**
+     * Returns the total price of the projects in dollars, to the cent.
+     * The total is not a {@code Price}, as it can be more than any single price.
+     */
+    public BigDecimal getTotal() {
+        return new BigDecimal(totalCents, 2);
+    }
+
+    /**
+     * Returns the average price of the projects, rounded to the nearest cent, or a price of zero if there are
+     * no projects.
+     */
+    public Price getAverage() {
+        if (numberOfProjects == 0) {
+            return Price.ofCents(0);
+        }
+        BigInteger count = BigInteger.valueOf(numberOfProjects);
+        // the average is never more than the highest price, so it fits in a long
+        return Price.ofCents(totalCents.add(count.shiftRight(1)).divide(count).longValueExact());
+    }
+
+    public int getNumberOfProjects() {
+        return numberOfProjects;
+    }
+
+    public boolean isEmpty() {
+        return numberOfProjects == 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Revenue // instanceof handles nulls
+                && totalCents.equals(((Revenue) other).totalCents)
+                && numberOfProjects == ((Revenue) other).numberOfProjects);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalCents, numberOfProjects);
+    }
+
+    @Override
+    public String toString() {
+        return "Total: $" + getTotal().toPlainString() + " from " + numberOfProjects + " projects";
+    }
+}
@@ -3,6 +3,8 @@ package arb.model.project;
 import static arb.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
+import arb.commons.util.StringUtil;
+
 /**
  * Represents a Project's title in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTitle(String)}
@@ -20,6 +22,9 @@ public class Title implements Comparable<Title> {
 
     public final String fullTitle;
 
+    // split into words the first time the title is searched
+    private volatile String[] lowerCaseWords;
+
     /**
      * Constructs a {@code Title}.
      * @param title A valid title.
@@ -39,6 +44,19 @@ public class Title implements Comparable<Title> {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if the title contains {@code lowerCaseWord}, which must be a single word in lower case,
+     * as a whole word. Equivalent to {@code StringUtil.containsWordIgnoreCase(fullTitle, lowerCaseWord)}.
+     */
+    public boolean containsWord(String lowerCaseWord) {
+        String[] words = lowerCaseWords;
+        if (words == null) {
+            words = StringUtil.toLowerCaseWords(fullTitle);
+            lowerCaseWords = words;
+        }
+        return StringUtil.containsWord(words, lowerCaseWord);
+    }
+
     @Override
     public String toString() {
         return fullTitle;
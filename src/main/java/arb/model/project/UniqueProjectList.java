@@ -1,14 +1,32 @@
 package arb.model.project;
 
+import static arb.commons.util.CollectionUtil.findDuplicates;
 import static arb.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 import arb.model.client.Client;
+import arb.model.client.Name;
 import arb.model.project.exceptions.DuplicateProjectException;
 import arb.model.project.exceptions.ProjectNotFoundException;
+import arb.model.tag.Tag;
+import arb.model.util.KeywordIndex;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -20,6 +38,14 @@ import javafx.collections.ObservableList;
  * removal of a project uses Project#equals(Object) so as to ensure that the project with exactly the same
  * fields will be removed.
  *
+ * Since a project's identity is its {@code Title}, the position of every project in the list is also indexed by
+ * title, allowing identity checks and lookups to be done without scanning the list. Projects are also indexed by
+ * deadline and by the words in their titles and linked clients' names, and the number of done projects, projects
+ * with deadlines and overdue projects, as well as the revenue from priced projects, are likewise kept up to date as
+ * the list changes, so that they can be queried without scanning the list. Only the address book's list of projects
+ * is indexed this way; a list made with {@link #createUnindexed()}, such as a client's linked projects, only indexes
+ * the positions of its projects, as its projects can change without the list being told.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Project#isSameProject(Project)
@@ -29,13 +55,59 @@ public class UniqueProjectList implements Iterable<Project> {
     private final ObservableList<Project> internalList = FXCollections.observableArrayList();
     private final ObservableList<Project> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Title, Integer> titleToIndex = new HashMap<>();
+    private final OverdueEvaluator overdueEvaluator;
+    private final boolean isIndexed;
+
+    private final KeywordIndex<Project> titleKeywordIndex = new KeywordIndex<>();
+    private final KeywordIndex<Project> clientNameKeywordIndex = new KeywordIndex<>();
+    // the projects with deadlines, by deadline and then by title
+    private final NavigableMap<LocalDateTime, Map<Title, Project>> projectsByDeadline = new TreeMap<>();
+
+    private int doneCount;
+    private int deadlineCount;
+    // the deadlines of projects that are not done, with the number of such projects due at each deadline
+    private final NavigableMap<LocalDateTime, Integer> notDoneDeadlines = new TreeMap<>();
+    // the number of projects that are not done and due before overdueBoundary, if it has been counted
+    private int overdueCount;
+    private LocalDateTime overdueBoundary;
+    // the revenue from projects with prices, in total, by linked client's name, by tag and by month of deadline
+    private Revenue revenue = Revenue.NONE;
+    private final Map<Name, Revenue> revenueByClient = new HashMap<>();
+    private final Map<Tag, Revenue> revenueByTag = new HashMap<>();
+    private final NavigableMap<YearMonth, Revenue> revenueByMonth = new TreeMap<>();
+
+    public UniqueProjectList() {
+        this(OverdueEvaluator.getSystemEvaluator());
+    }
+
+    /**
+     * Creates a {@code UniqueProjectList} that decides which projects are overdue with {@code overdueEvaluator}.
+     */
+    public UniqueProjectList(OverdueEvaluator overdueEvaluator) {
+        this(overdueEvaluator, true);
+    }
+
+    private UniqueProjectList(OverdueEvaluator overdueEvaluator, boolean isIndexed) {
+        requireNonNull(overdueEvaluator);
+        this.overdueEvaluator = overdueEvaluator;
+        this.isIndexed = isIndexed;
+    }
+
+    /**
+     * Creates a {@code UniqueProjectList} that does not index its projects by their fields or keep statistics about
+     * them, so its projects may be changed in place without going through the list.
+     */
+    public static UniqueProjectList createUnindexed() {
+        return new UniqueProjectList(OverdueEvaluator.getSystemEvaluator(), false);
+    }
 
     /**
      * Returns true if the list contains an equivalent project as the given argument.
      */
     public boolean contains(Project toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProject);
+        return titleToIndex.containsKey(toCheck.getTitle());
     }
 
     /**
@@ -47,6 +119,9 @@ public class UniqueProjectList implements Iterable<Project> {
         if (contains(toAdd)) {
             throw new DuplicateProjectException();
         }
+        // the indexes are updated first, so that the list is left unchanged if that fails
+        addToIndexes(toAdd);
+        titleToIndex.put(toAdd.getTitle(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -58,7 +133,7 @@ public class UniqueProjectList implements Iterable<Project> {
     public void setProject(Project target, Project editedProject) {
         requireAllNonNull(target, editedProject);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ProjectNotFoundException();
         }
@@ -67,6 +142,10 @@ public class UniqueProjectList implements Iterable<Project> {
             throw new DuplicateProjectException();
         }
 
+        removeFromIndexes(target);
+        addToIndexes(editedProject);
+        titleToIndex.remove(target.getTitle());
+        titleToIndex.put(editedProject.getTitle(), index);
         internalList.set(index, editedProject);
     }
 
@@ -76,14 +155,23 @@ public class UniqueProjectList implements Iterable<Project> {
      */
     public void remove(Project toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ProjectNotFoundException();
         }
+
+        removeFromIndexes(toRemove);
+        titleToIndex.remove(toRemove.getTitle());
+        internalList.remove(index);
+        reindexFrom(index);
     }
 
     public void setProjects(UniqueProjectList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        titleToIndex.clear();
+        titleToIndex.putAll(replacement.titleToIndex);
+        rebuildIndexes();
     }
 
     /**
@@ -92,10 +180,28 @@ public class UniqueProjectList implements Iterable<Project> {
      */
     public void setProjects(List<Project> projects) {
         requireAllNonNull(projects);
-        if (!projectsAreUnique(projects)) {
-            throw new DuplicateProjectException();
+        List<Project> duplicates = findDuplicates(projects, Project::getTitle);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateProjectException(duplicates);
         }
         internalList.setAll(projects);
+        titleToIndex.clear();
+        reindexFrom(0);
+        rebuildIndexes();
+    }
+
+    /**
+     * Replaces every project in the list with the result of applying {@code operator} to it.
+     * All replacements are applied in a single pass and published as a single change to the list.
+     * The replacement projects must not contain duplicate projects.
+     */
+    public void replaceAll(UnaryOperator<Project> operator) {
+        requireNonNull(operator);
+        List<Project> replacements = new ArrayList<>(internalList.size());
+        for (Project project : internalList) {
+            replacements.add(operator.apply(project));
+        }
+        setProjects(replacements);
     }
 
     /**
@@ -103,8 +209,7 @@ public class UniqueProjectList implements Iterable<Project> {
      */
     public void linkProjectToClient(Project project, Client client) {
         requireAllNonNull(project, client);
-        project.linkToClient(client);
-        setProject(project, project);
+        updateInPlace(project, p -> p.linkToClient(client));
     }
 
     /**
@@ -112,15 +217,17 @@ public class UniqueProjectList implements Iterable<Project> {
      */
     public void unlinkProjectFromClient(Project project) {
         requireNonNull(project);
-        project.unlinkFromClient();
-        setProject(project, project);
+        updateInPlace(project, Project::unlinkFromClient);
     }
 
     /**
      * Unlinks all linked clients from the projects in the list.
      */
     public void resetClientLinkings() {
-        internalList.stream().forEach(p -> unlinkProjectFromClient(p));
+        replaceAll(p -> {
+            p.unlinkFromClient();
+            return p;
+        });
     }
 
     /**
@@ -131,9 +238,8 @@ public class UniqueProjectList implements Iterable<Project> {
         Iterator<Project> linkedProjects = original.getLinkedProjects().iterator();
         while (linkedProjects.hasNext()) {
             Project linkedProject = linkedProjects.next();
-            linkedProject.linkToClient(target);
+            updateInPlace(linkedProject, p -> p.linkToClient(target));
             target.linkProject(linkedProject);
-            setProject(linkedProject, linkedProject);
         }
     }
 
@@ -145,8 +251,7 @@ public class UniqueProjectList implements Iterable<Project> {
         Iterator<Project> linkedProjectsIterator = client.getLinkedProjects().iterator();
         while (linkedProjectsIterator.hasNext()) {
             Project toRemove = linkedProjectsIterator.next();
-            toRemove.unlinkFromClient();
-            setProject(toRemove, toRemove);
+            updateInPlace(toRemove, Project::unlinkFromClient);
         }
     }
 
@@ -155,8 +260,7 @@ public class UniqueProjectList implements Iterable<Project> {
      */
     public void markProjectAsDone(Project project) {
         requireNonNull(project);
-        project.markAsDone();
-        setProject(project, project);
+        updateInPlace(project, Project::markAsDone);
     }
 
     /**
@@ -164,7 +268,20 @@ public class UniqueProjectList implements Iterable<Project> {
      */
     public void markProjectAsNotDone(Project project) {
         requireNonNull(project);
-        project.markAsUndone();
+        updateInPlace(project, Project::markAsUndone);
+    }
+
+    /**
+     * Applies {@code update} to {@code project}, which is in the list, and publishes the change to the list.
+     */
+    private void updateInPlace(Project project, Consumer<Project> update) {
+        if (indexOf(project) == -1) {
+            throw new ProjectNotFoundException();
+        }
+        // the indexes are built from the project's fields, so they must be updated around the change
+        removeFromIndexes(project);
+        update.accept(project);
+        addToIndexes(project);
         setProject(project, project);
     }
 
@@ -177,47 +294,110 @@ public class UniqueProjectList implements Iterable<Project> {
 
     /**
      * Returns number of Overdue projects.
+     * Only the deadlines that have become overdue since the last call are counted, as the start of today
+     * normally only moves forward.
      */
     public int noOverdueProjects() {
-        int overdueProjects = 0;
-        int projectSize = this.internalList.size();
-        ObservableList<Project> projectList = this.internalList;
-        for (int i = 0; i < projectSize; i++) {
-            if (projectList.get(i).isOverdue()) {
-                overdueProjects++;
-            }
+        assert isIndexed;
+        LocalDateTime startOfToday = overdueEvaluator.getStartOfToday();
+        if (overdueBoundary == null || startOfToday.isBefore(overdueBoundary)) {
+            overdueCount = sumCounts(notDoneDeadlines.headMap(startOfToday, false));
+        } else {
+            overdueCount += sumCounts(notDoneDeadlines.subMap(overdueBoundary, true, startOfToday, false));
         }
-        return overdueProjects;
+        overdueBoundary = startOfToday;
+        return overdueCount;
     }
 
     /**
      * Returns number of Done projects.
      */
     public int noDoneProjects() {
-        int doneProjects = 0;
-        ObservableList<Project> projectList = this.internalList;
-        int projectSize = this.internalList.size();
-        for (int i = 0; i < projectSize; i++) {
-            if (projectList.get(i).getStatus().getStatus()) {
-                doneProjects++;
-            }
-        }
-        return doneProjects;
+        assert isIndexed;
+        return doneCount;
     }
 
     /**
      * Returns number of Not Done projects.
      */
     public int noNotDoneProjects() {
-        int projectSize = this.internalList.size();
-        ObservableList<Project> projectList = this.internalList;
-        int notDoneProjects = 0;
-        for (int i = 0; i < projectSize; i++) {
-            if (!projectList.get(i).getStatus().getStatus()) {
-                notDoneProjects++;
-            }
+        assert isIndexed;
+        return internalList.size() - doneCount;
+    }
+
+    /**
+     * Returns number of projects with deadlines.
+     */
+    public int noProjectsWithDeadline() {
+        assert isIndexed;
+        return deadlineCount;
+    }
+
+    /**
+     * Returns the revenue from all projects with prices.
+     */
+    public Revenue getRevenue() {
+        assert isIndexed;
+        return revenue;
+    }
+
+    /**
+     * Returns the revenue from projects with prices, by the name of the client they are linked to.
+     */
+    public Map<Name, Revenue> getRevenueByClient() {
+        assert isIndexed;
+        return Collections.unmodifiableMap(revenueByClient);
+    }
+
+    /**
+     * Returns the revenue from projects with prices, by the tags they have.
+     */
+    public Map<Tag, Revenue> getRevenueByTag() {
+        assert isIndexed;
+        return Collections.unmodifiableMap(revenueByTag);
+    }
+
+    /**
+     * Returns the revenue from projects with prices, by the month of their deadlines, in order of month.
+     */
+    public SortedMap<YearMonth, Revenue> getRevenueByMonth() {
+        assert isIndexed;
+        return Collections.unmodifiableSortedMap(revenueByMonth);
+    }
+
+    /**
+     * Returns the projects whose titles contain any of {@code keywords} as a whole word, ignoring case.
+     */
+    public Set<Project> getProjectsWithTitleContainingAny(Collection<String> keywords) {
+        assert isIndexed;
+        return titleKeywordIndex.getItemsContainingAny(keywords);
+    }
+
+    /**
+     * Returns the projects whose linked clients' names contain any of {@code keywords} as a whole word,
+     * ignoring case.
+     */
+    public Set<Project> getProjectsWithClientNameContainingAny(Collection<String> keywords) {
+        assert isIndexed;
+        return clientNameKeywordIndex.getItemsContainingAny(keywords);
+    }
+
+    /**
+     * Returns the projects with deadlines from {@code start} to {@code end} inclusive, in order of deadline.
+     * A null {@code start} or {@code end} leaves that end of the timeframe open.
+     */
+    public List<Project> getProjectsWithin(Deadline start, Deadline end) {
+        assert isIndexed;
+        NavigableMap<LocalDateTime, Map<Title, Project>> inTimeframe = projectsByDeadline;
+        if (start != null) {
+            inTimeframe = inTimeframe.tailMap(start.dueDate, true);
         }
-        return notDoneProjects;
+        if (end != null) {
+            inTimeframe = inTimeframe.headMap(end.dueDate, true);
+        }
+        List<Project> projects = new ArrayList<>();
+        inTimeframe.values().forEach(projectsDue -> projects.addAll(projectsDue.values()));
+        return projects;
     }
 
     /**
@@ -227,6 +407,150 @@ public class UniqueProjectList implements Iterable<Project> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the position of the project equal to {@code project} in the list, or -1 if there is no such project.
+     */
+    private int indexOf(Project project) {
+        Integer index = titleToIndex.get(project.getTitle());
+        if (index == null || !internalList.get(index).equals(project)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Adds {@code project}, as it currently is, to the indexes and statistics of the list, if it is indexed.
+     */
+    private void addToIndexes(Project project) {
+        if (!isIndexed) {
+            return;
+        }
+        titleKeywordIndex.add(project.getTitle().fullTitle, project);
+        if (project.isClientPresent()) {
+            clientNameKeywordIndex.add(project.getClientName(), project);
+        }
+        updateRevenue(project, true);
+        boolean isDone = project.getStatus().getStatus();
+        if (isDone) {
+            doneCount++;
+        }
+        if (!project.isDeadlinePresent()) {
+            return;
+        }
+        LocalDateTime dueDate = project.getDeadline().dueDate;
+        projectsByDeadline.computeIfAbsent(dueDate, date -> new LinkedHashMap<>()).put(project.getTitle(), project);
+        deadlineCount++;
+        if (!isDone) {
+            notDoneDeadlines.merge(dueDate, 1, Integer::sum);
+            if (overdueBoundary != null && dueDate.isBefore(overdueBoundary)) {
+                overdueCount++;
+            }
+        }
+    }
+
+    /**
+     * Removes {@code project}, as it currently is, from the indexes and statistics of the list, if it is indexed.
+     */
+    private void removeFromIndexes(Project project) {
+        if (!isIndexed) {
+            return;
+        }
+        titleKeywordIndex.remove(project.getTitle().fullTitle, project);
+        if (project.isClientPresent()) {
+            clientNameKeywordIndex.remove(project.getClientName(), project);
+        }
+        updateRevenue(project, false);
+        boolean isDone = project.getStatus().getStatus();
+        if (isDone) {
+            doneCount--;
+        }
+        if (!project.isDeadlinePresent()) {
+            return;
+        }
+        LocalDateTime dueDate = project.getDeadline().dueDate;
+        Map<Title, Project> projectsDue = projectsByDeadline.get(dueDate);
+        projectsDue.remove(project.getTitle());
+        if (projectsDue.isEmpty()) {
+            projectsByDeadline.remove(dueDate);
+        }
+        deadlineCount--;
+        if (!isDone) {
+            notDoneDeadlines.computeIfPresent(dueDate, (date, count) -> count == 1 ? null : count - 1);
+            if (overdueBoundary != null && dueDate.isBefore(overdueBoundary)) {
+                overdueCount--;
+            }
+        }
+    }
+
+    private void rebuildIndexes() {
+        titleKeywordIndex.clear();
+        clientNameKeywordIndex.clear();
+        projectsByDeadline.clear();
+        doneCount = 0;
+        deadlineCount = 0;
+        notDoneDeadlines.clear();
+        overdueBoundary = null;
+        revenue = Revenue.NONE;
+        revenueByClient.clear();
+        revenueByTag.clear();
+        revenueByMonth.clear();
+        internalList.forEach(this::addToIndexes);
+    }
+
+    /**
+     * Adds or removes {@code project}, as it currently is, to or from the revenues it counts towards, if it has a
+     * price.
+     */
+    private void updateRevenue(Project project, boolean isAdded) {
+        if (!project.isPricePresent()) {
+            return;
+        }
+        Revenue projectRevenue = Revenue.of(project.getPrice());
+        revenue = isAdded ? revenue.plus(projectRevenue) : revenue.minus(projectRevenue);
+        if (project.isClientPresent()) {
+            updateRevenue(revenueByClient, project.getLinkedClient().get().getName(), projectRevenue, isAdded);
+        }
+        for (Tag t : project.getTags()) {
+            updateRevenue(revenueByTag, t, projectRevenue, isAdded);
+        }
+        if (project.isDeadlinePresent()) {
+            updateRevenue(revenueByMonth, YearMonth.from(project.getDeadline().dueDate), projectRevenue, isAdded);
+        }
+    }
+
+    private static <K> void updateRevenue(Map<K, Revenue> revenues, K key, Revenue projectRevenue,
+            boolean isAdded) {
+        Revenue current = revenues.getOrDefault(key, Revenue.NONE);
+        if (isAdded) {
+            revenues.put(key, current.plus(projectRevenue));
+            return;
+        }
+        assert !current.isEmpty() : "the project was changed in place without going through updateInPlace";
+        Revenue updated = current.minus(projectRevenue);
+        if (updated.isEmpty()) {
+            revenues.remove(key);
+        } else {
+            revenues.put(key, updated);
+        }
+    }
+
+    private static int sumCounts(Map<LocalDateTime, Integer> deadlineCounts) {
+        int sum = 0;
+        for (int count : deadlineCounts.values()) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    /**
+     * Updates the indexed positions of all projects from {@code startIndex} onwards to match the list.
+     */
+    private void reindexFrom(int startIndex) {
+        for (int i = startIndex; i < internalList.size(); i++) {
+            titleToIndex.put(internalList.get(i).getTitle(), i);
+        }
+    }
+
     @Override
     public Iterator<Project> iterator() {
         return internalList.iterator();
@@ -243,18 +567,4 @@ public class UniqueProjectList implements Iterable<Project> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code projects} contains only unique projects.
-     */
-    private boolean projectsAreUnique(List<Project> projects) {
-        for (int i = 0; i < projects.size() - 1; i++) {
-            for (int j = i + 1; j < projects.size(); j++) {
-                if (projects.get(i).isSameProject(projects.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
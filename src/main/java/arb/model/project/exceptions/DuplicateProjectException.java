@@ -1,5 +1,12 @@
 package arb.model.project.exceptions;
 
+import static arb.commons.util.CollectionUtil.keywordsToString;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import arb.model.project.Project;
+
 /**
  * Signals that the operation will result in duplicate Projects (Projects are considered duplicates if
  * they have the same identity).
@@ -8,4 +15,12 @@ public class DuplicateProjectException extends RuntimeException {
     public DuplicateProjectException() {
         super("Operation would result in duplicate projects");
     }
+
+    /**
+     * Constructs a {@code DuplicateProjectException} that names the colliding {@code duplicates}.
+     */
+    public DuplicateProjectException(List<Project> duplicates) {
+        super("Operation would result in duplicate projects: "
+                + keywordsToString(duplicates.stream().map(p -> p.getTitle().fullTitle).collect(Collectors.toList())));
+    }
 }
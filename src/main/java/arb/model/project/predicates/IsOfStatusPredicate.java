@@ -1,14 +1,13 @@
 package arb.model.project.predicates;
 
-import java.util.function.Predicate;
-
+import arb.commons.core.predicate.EstimablePredicate;
 import arb.model.project.Project;
 import arb.model.project.Status;
 
 /**
  * Tests that a {@code Project} is of the given {@code Status}.
  */
-public class IsOfStatusPredicate implements Predicate<Project> {
+public class IsOfStatusPredicate implements EstimablePredicate<Project> {
 
     private final Status statusToCheck;
 
@@ -24,6 +23,17 @@ public class IsOfStatusPredicate implements Predicate<Project> {
         return project.getStatus().equals(statusToCheck);
     }
 
+    @Override
+    public double getEstimatedCost() {
+        return 1;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        // projects are either done or not done
+        return 0.5;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -1,29 +1,61 @@
 package arb.model.project.predicates;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 
+import arb.commons.core.predicate.EstimablePredicate;
 import arb.commons.util.StringUtil;
+import arb.model.client.Name;
 import arb.model.project.Project;
 
 /**
  * Tests that a {@code Project}'s linked client's name contains any of the keywords given.
  */
-public class LinkedClientNameContainsKeywordsPredicate implements Predicate<Project> {
+public class LinkedClientNameContainsKeywordsPredicate implements EstimablePredicate<Project> {
     private final Set<String> keywords;
+    private final String[] lowerCaseKeywords;
 
+    /**
+     * Constructs a predicate that matches any of the {@code keywords} in the linked client name, ignoring case.
+     * @throws IllegalArgumentException if any keyword is empty or is not a single word.
+     */
     public LinkedClientNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = new HashSet<>(keywords);
+        this.lowerCaseKeywords = this.keywords.stream()
+                .map(StringUtil::toLowerCaseWord)
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    public Set<String> getKeywords() {
+        return Collections.unmodifiableSet(keywords);
     }
 
     @Override
     public boolean test(Project project) {
-        return keywords.stream()
-                .anyMatch(n -> project.isClientPresent()
-                        && StringUtil.containsWordIgnoreCase(project.getClientName(), n));
+        if (!project.isClientPresent()) {
+            return false;
+        }
+        Name clientName = project.getLinkedClient().get().getName();
+        for (String keyword : lowerCaseKeywords) {
+            if (clientName.containsWord(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public double getEstimatedCost() {
+        return EstimablePredicate.estimateKeywordCost(keywords.size());
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return EstimablePredicate.estimateKeywordSelectivity(keywords.size());
     }
 
     @Override
@@ -1,30 +1,47 @@
 package arb.model.project.predicates;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import arb.commons.core.predicate.EstimablePredicate;
 import arb.model.project.Project;
 import arb.model.tag.Tag;
 
 /**
  * Tests that a {@code Project} contains any of the tags given.
  */
-public class ProjectContainsTagsPredicate implements Predicate<Project> {
+public class ProjectContainsTagsPredicate implements EstimablePredicate<Project> {
+    private static final double TAG_SELECTIVITY = 0.2;
+
     private final Set<Tag> tags;
 
     public ProjectContainsTagsPredicate(List<String> keywords) {
         tags = keywords.stream().map(s -> new Tag(s.toLowerCase())).collect(Collectors.toSet());
     }
 
+    public Set<Tag> getTags() {
+        return Collections.unmodifiableSet(tags);
+    }
+
     @Override
     public boolean test(Project project) {
         return tags.stream()
                 .anyMatch(t -> project.getTags().contains(t));
     }
 
+    @Override
+    public double getEstimatedCost() {
+        return tags.size();
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return Math.min(1, TAG_SELECTIVITY * tags.size());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -2,15 +2,15 @@ package arb.model.project.predicates;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
 
+import arb.commons.core.predicate.EstimablePredicate;
 import arb.model.project.Deadline;
 import arb.model.project.Project;
 
 /**
  * Tests that a {@code Project}'s deadline falls within the given timeframe.
  */
-public class ProjectWithinTimeframePredicate implements Predicate<Project> {
+public class ProjectWithinTimeframePredicate implements EstimablePredicate<Project> {
     private final Optional<Deadline> start;
     private final Optional<Deadline> end;
 
@@ -24,6 +24,14 @@ public class ProjectWithinTimeframePredicate implements Predicate<Project> {
         this.end = Optional.ofNullable(end);
     }
 
+    public Optional<Deadline> getStart() {
+        return start;
+    }
+
+    public Optional<Deadline> getEnd() {
+        return end;
+    }
+
     @Override
     public boolean test(Project project) {
         return project.isDeadlinePresent()
@@ -31,6 +39,16 @@ public class ProjectWithinTimeframePredicate implements Predicate<Project> {
             && end.map(d -> d.compareTo(project.getDeadline()) >= 0).orElse(true);
     }
 
+    @Override
+    public double getEstimatedCost() {
+        return 2;
+    }
+
+    @Override
+    public double getEstimatedSelectivity() {
+        return start.isPresent() && end.isPresent() ? 0.25 : 0.5;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
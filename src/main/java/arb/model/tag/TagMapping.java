@@ -2,16 +2,24 @@ package arb.model.tag;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Objects;
+import java.util.Set;
+
+import arb.model.client.Client;
+import arb.model.project.Project;
 
 /**
- * Stores how many clients and projects is tagged by a certain {@code Tag}.
+ * Stores the clients and projects tagged by a certain {@code Tag}.
  * Guarantees: {@code Tag} tags at least one client or project in the address book.
+ *
+ * Clients and projects are told apart by identity rather than by {@code equals}, as they can change in place.
  */
 public class TagMapping {
     private final Tag tag;
-    private int numberOfClientsTagged;
-    private int numberOfProjectsTagged;
+    private final Set<Client> taggedClients = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Project> taggedProjects = Collections.newSetFromMap(new IdentityHashMap<>());
 
     /**
      * Constructs a {@code TagMapping}.
@@ -21,52 +29,56 @@ public class TagMapping {
     public TagMapping(Tag tag) {
         requireNonNull(tag);
         this.tag = tag;
-        this.numberOfClientsTagged = 0;
-        this.numberOfProjectsTagged = 0;
     }
 
     /**
-     * Increases the number of clients tagged by the {@code Tag}.
+     * Records that {@code client} is tagged by the {@code Tag}.
      */
-    public void tagClient() {
-        this.numberOfClientsTagged += 1;
+    public void tagClient(Client client) {
+        requireNonNull(client);
+        taggedClients.add(client);
     }
 
     /**
-     * Increases the number of projects tagged by the {@code Tag}.
+     * Records that {@code project} is tagged by the {@code Tag}.
      */
-    public void tagProject() {
-        this.numberOfProjectsTagged += 1;
+    public void tagProject(Project project) {
+        requireNonNull(project);
+        taggedProjects.add(project);
     }
 
     /**
-     * Decreases the number of clients tagged by the {@code Tag}.
+     * Records that {@code client} is no longer tagged by the {@code Tag}.
+     * {@code client} must be the client that was tagged, not just an equal one.
      */
-    public void untagClient() {
-        this.numberOfClientsTagged -= 1;
-        assert this.numberOfClientsTagged >= 0 : "Number of client tags are negative";
+    public void untagClient(Client client) {
+        requireNonNull(client);
+        boolean isRemoved = taggedClients.remove(client);
+        assert isRemoved : "Untagged a client that was not tagged: " + client;
     }
 
     /**
-     * Decreases the number of projects tagged by the {@code Tag}.
+     * Records that {@code project} is no longer tagged by the {@code Tag}.
+     * {@code project} must be the project that was tagged, not just an equal one.
      */
-    public void untagProject() {
-        this.numberOfProjectsTagged -= 1;
-        assert this.numberOfProjectsTagged >= 0 : "Number of project tags are negative";
+    public void untagProject(Project project) {
+        requireNonNull(project);
+        boolean isRemoved = taggedProjects.remove(project);
+        assert isRemoved : "Untagged a project that was not tagged: " + project;
     }
 
     /**
-     * Resets the number of clients tagged by the {@code Tag} to 0.
+     * Resets the clients tagged by the {@code Tag} to none.
      */
     public void resetClientTaggings() {
-        this.numberOfClientsTagged = 0;
+        taggedClients.clear();
     }
 
     /**
-     * Resets the number of projects tagged by the {@code Tag} to 0.
+     * Resets the projects tagged by the {@code Tag} to none.
      */
     public void resetProjectTaggings() {
-        this.numberOfProjectsTagged = 0;
+        taggedProjects.clear();
     }
 
     /**
@@ -89,16 +101,23 @@ public class TagMapping {
      * Returns true if {@code Tag} is not tagging any client or project.
      */
     public boolean noObjectsTagged() {
-        return this.numberOfClientsTagged == 0
-                && this.numberOfProjectsTagged == 0;
+        return taggedClients.isEmpty() && taggedProjects.isEmpty();
     }
 
     public int getNumberOfClientsTagged() {
-        return this.numberOfClientsTagged;
+        return taggedClients.size();
     }
 
     public int getNumberOfProjectsTagged() {
-        return this.numberOfProjectsTagged;
+        return taggedProjects.size();
+    }
+
+    public Set<Client> getTaggedClients() {
+        return Collections.unmodifiableSet(taggedClients);
+    }
+
+    public Set<Project> getTaggedProjects() {
+        return Collections.unmodifiableSet(taggedProjects);
     }
 
     public Tag getTag() {
@@ -112,12 +131,12 @@ public class TagMapping {
         }
         return (otherObject instanceof TagMapping)
                 && ((TagMapping) otherObject).tag.equals(tag)
-                && ((TagMapping) otherObject).numberOfClientsTagged == numberOfClientsTagged
-                && ((TagMapping) otherObject).numberOfProjectsTagged == numberOfProjectsTagged;
+                && ((TagMapping) otherObject).getNumberOfClientsTagged() == getNumberOfClientsTagged()
+                && ((TagMapping) otherObject).getNumberOfProjectsTagged() == getNumberOfProjectsTagged();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(tag, numberOfClientsTagged, numberOfProjectsTagged);
+        return Objects.hash(tag, getNumberOfClientsTagged(), getNumberOfProjectsTagged());
     }
 }
@@ -1,11 +1,20 @@
 package arb.model.tag;
 
+import static arb.commons.util.CollectionUtil.findDuplicates;
 import static arb.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import arb.model.client.Client;
@@ -23,6 +32,9 @@ import javafx.collections.ObservableList;
  * removal of a tag mapping uses TagMapping#equals(Object) so as to ensure that the tag mapping with exactly the same
  * fields will be removed.
  *
+ * Since a tag mapping's identity is its {@code Tag}, the position of every tag mapping in the list is also indexed by
+ * tag, allowing the clients and projects tagged by a tag to be updated and looked up without scanning the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see TagMapping#isSameTagMapping(TagMapping)
@@ -32,13 +44,14 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
     private final ObservableList<TagMapping> internalList = FXCollections.observableArrayList();
     private final ObservableList<TagMapping> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Tag, Integer> tagToIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent tag mapping as the given argument.
      */
     private boolean contains(TagMapping toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTagMapping);
+        return tagToIndex.containsKey(toCheck.getTag());
     }
 
     /**
@@ -46,7 +59,7 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
      */
     private boolean contains(Tag tag) {
         requireNonNull(tag);
-        return internalList.stream().anyMatch(t -> t.isSameTagMapping(tag));
+        return tagToIndex.containsKey(tag);
     }
 
     /**
@@ -58,6 +71,7 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
         if (contains(toAdd)) {
             throw new DuplicateTagMappingException();
         }
+        tagToIndex.put(toAdd.getTag(), internalList.size());
         internalList.add(toAdd);
     }
 
@@ -70,7 +84,7 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
     private void setTagMapping(TagMapping target, TagMapping editedTagMapping) {
         requireAllNonNull(target, editedTagMapping);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TagMappingNotFoundException();
         }
@@ -79,6 +93,8 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
             throw new DuplicateTagMappingException();
         }
 
+        tagToIndex.remove(target.getTag());
+        tagToIndex.put(editedTagMapping.getTag(), index);
         internalList.set(index, editedTagMapping);
     }
 
@@ -88,9 +104,14 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
      */
     private void remove(TagMapping toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TagMappingNotFoundException();
         }
+
+        tagToIndex.remove(toRemove.getTag());
+        internalList.remove(index);
+        reindexFrom(index);
     }
 
     /**
@@ -99,10 +120,13 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
      */
     public void setTagMappings(List<TagMapping> tagMappings) {
         requireAllNonNull(tagMappings);
-        if (!tagMappingsAreUnique(tagMappings)) {
-            throw new DuplicateTagMappingException();
+        List<TagMapping> duplicates = findDuplicates(tagMappings, TagMapping::getTag);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateTagMappingException(duplicates);
         }
         internalList.setAll(tagMappings);
+        tagToIndex.clear();
+        reindexFrom(0);
     }
 
     /**
@@ -111,9 +135,23 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
      */
     public void setTagMappings(List<Client> clients, List<Project> projects) {
         requireAllNonNull(clients, projects);
-        internalList.clear();
-        clients.stream().forEach(c -> addClientTags(c));
-        projects.stream().forEach(p -> addProjectTags(p));
+        // tally the tags before publishing them so that the list only changes once
+        Map<Tag, TagMapping> tagMappings = new LinkedHashMap<>();
+        for (Client c : clients) {
+            for (Tag t : c.getTags()) {
+                tagMappings.computeIfAbsent(t, TagMapping::new).tagClient(c);
+            }
+        }
+
+        for (Project p : projects) {
+            for (Tag t : p.getTags()) {
+                tagMappings.computeIfAbsent(t, TagMapping::new).tagProject(p);
+            }
+        }
+
+        internalList.setAll(tagMappings.values());
+        tagToIndex.clear();
+        reindexFrom(0);
     }
 
     /**
@@ -129,7 +167,7 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
     public void addClientTags(Client client) {
         requireNonNull(client);
         for (Tag t : client.getTags()) {
-            addClientTag(t);
+            addClientTag(t, client);
         }
     }
 
@@ -139,7 +177,7 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
     public void addProjectTags(Project project) {
         requireNonNull(project);
         for (Tag t : project.getTags()) {
-            addProjectTag(t);
+            addProjectTag(t, project);
         }
     }
 
@@ -149,11 +187,11 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
     public void editClientTags(Client originalClient, Client editedClient) {
         requireAllNonNull(originalClient, editedClient);
         for (Tag t : originalClient.getTags()) {
-            removeClientTag(t);
+            removeClientTag(t, originalClient);
         }
 
         for (Tag t : editedClient.getTags()) {
-            addClientTag(t);
+            addClientTag(t, editedClient);
         }
     }
 
@@ -163,11 +201,11 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
     public void editProjectTags(Project originalProject, Project editedProject) {
         requireAllNonNull(originalProject, editedProject);
         for (Tag t : originalProject.getTags()) {
-            removeProjectTag(t);
+            removeProjectTag(t, originalProject);
         }
 
         for (Tag t : editedProject.getTags()) {
-            addProjectTag(t);
+            addProjectTag(t, editedProject);
         }
     }
 
@@ -177,7 +215,7 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
     public void deleteClientTags(Client deletedClient) {
         requireNonNull(deletedClient);
         for (Tag t : deletedClient.getTags()) {
-            removeClientTag(t);
+            removeClientTag(t, deletedClient);
         }
     }
 
@@ -187,7 +225,7 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
     public void deleteProjectTags(Project deletedProject) {
         requireNonNull(deletedProject);
         for (Tag t : deletedProject.getTags()) {
-            removeProjectTag(t);
+            removeProjectTag(t, deletedProject);
         }
     }
 
@@ -209,58 +247,101 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
                 .collect(Collectors.toList()));
     }
 
-    private void addClientTag(Tag tag) {
-        if (!contains(tag)) {
-            add(new TagMapping(tag));
+    /**
+     * Returns the clients tagged by any of {@code tags}.
+     * The returned set is a new set that tells clients apart by identity.
+     */
+    public Set<Client> getClientsTaggedWithAny(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        Set<Client> clients = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Tag t : tags) {
+            Integer index = tagToIndex.get(t);
+            if (index != null) {
+                clients.addAll(internalList.get(index).getTaggedClients());
+            }
         }
+        return clients;
+    }
 
-        TagMapping mapping = getTagMapping(tag);
-        mapping.tagClient();
-        setTagMapping(mapping, mapping);
+    /**
+     * Returns the projects tagged by any of {@code tags}.
+     * The returned set is a new set that tells projects apart by identity.
+     */
+    public Set<Project> getProjectsTaggedWithAny(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        Set<Project> projects = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Tag t : tags) {
+            Integer index = tagToIndex.get(t);
+            if (index != null) {
+                projects.addAll(internalList.get(index).getTaggedProjects());
+            }
+        }
+        return projects;
     }
 
-    private void removeClientTag(Tag tag) {
-        TagMapping mapping = getTagMapping(tag);
-        mapping.untagClient();
+    private void addClientTag(Tag tag, Client client) {
+        addTagIfAbsent(tag);
+        updateTagMapping(tag, mapping -> mapping.tagClient(client));
+    }
 
-        setTagMapping(mapping, mapping);
+    private void removeClientTag(Tag tag, Client client) {
+        updateTagMapping(tag, mapping -> mapping.untagClient(client));
+    }
 
-        if (mapping.noObjectsTagged()) {
-            remove(mapping);
-        }
+    private void addProjectTag(Tag tag, Project project) {
+        addTagIfAbsent(tag);
+        updateTagMapping(tag, mapping -> mapping.tagProject(project));
+    }
+
+    private void removeProjectTag(Tag tag, Project project) {
+        updateTagMapping(tag, mapping -> mapping.untagProject(project));
     }
 
-    private void addProjectTag(Tag tag) {
+    private void addTagIfAbsent(Tag tag) {
         if (!contains(tag)) {
             add(new TagMapping(tag));
         }
-
-        TagMapping mapping = getTagMapping(tag);
-        mapping.tagProject();
-        setTagMapping(mapping, mapping);
     }
 
-    private void removeProjectTag(Tag tag) {
-        TagMapping mapping = getTagMapping(tag);
-        mapping.untagProject();
+    /**
+     * Applies {@code update} to the tag mapping wrapping around {@code tag}, removing the tag mapping
+     * if it no longer tags any client or project.
+     */
+    private void updateTagMapping(Tag tag, Consumer<TagMapping> update) {
+        Integer index = tagToIndex.get(tag);
+        if (index == null) {
+            throw new TagMappingNotFoundException();
+        }
 
-        setTagMapping(mapping, mapping);
+        TagMapping mapping = internalList.get(index);
+        update.accept(mapping);
 
         if (mapping.noObjectsTagged()) {
             remove(mapping);
+        } else {
+            setTagMapping(mapping, mapping);
         }
     }
 
-    private TagMapping getTagMapping(Tag tag) {
-        Iterator<TagMapping> iterator = iterator();
-        while (iterator.hasNext()) {
-            TagMapping mapping = iterator.next();
-            if (mapping.isSameTagMapping(tag)) {
-                return mapping;
-            }
+    /**
+     * Returns the position of the tag mapping equal to {@code tagMapping} in the list, or -1 if there is no such
+     * tag mapping.
+     */
+    private int indexOf(TagMapping tagMapping) {
+        Integer index = tagToIndex.get(tagMapping.getTag());
+        if (index == null || !internalList.get(index).equals(tagMapping)) {
+            return -1;
         }
+        return index;
+    }
 
-        throw new TagMappingNotFoundException();
+    /**
+     * Updates the indexed positions of all tag mappings from {@code startIndex} onwards to match the list.
+     */
+    private void reindexFrom(int startIndex) {
+        for (int i = startIndex; i < internalList.size(); i++) {
+            tagToIndex.put(internalList.get(i).getTag(), i);
+        }
     }
 
     @Override
@@ -284,18 +365,4 @@ public class UniqueTagMappingList implements Iterable<TagMapping> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code tagMappings} contains only unique tag mappings.
-     */
-    private boolean tagMappingsAreUnique(List<TagMapping> tagMappings) {
-        for (int i = 0; i < tagMappings.size() - 1; i++) {
-            for (int j = i + 1; j < tagMappings.size(); j++) {
-                if (tagMappings.get(i).isSameTagMapping(tagMappings.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
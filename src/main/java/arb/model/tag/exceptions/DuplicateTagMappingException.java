@@ -1,5 +1,12 @@
 package arb.model.tag.exceptions;
 
+import static arb.commons.util.CollectionUtil.keywordsToString;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import arb.model.tag.TagMapping;
+
 /**
  * Signals that the operation will result in duplicate TagMappings (TagMappings are considered
  * duplicates if they have the same name).
@@ -8,4 +15,12 @@ public class DuplicateTagMappingException extends RuntimeException {
     public DuplicateTagMappingException() {
         super("Operation would result in duplicate tags");
     }
+
+    /**
+     * Constructs a {@code DuplicateTagMappingException} that names the colliding {@code duplicates}.
+     */
+    public DuplicateTagMappingException(List<TagMapping> duplicates) {
+        super("Operation would result in duplicate tags: "
+                + keywordsToString(duplicates.stream().map(t -> t.getTag().tagName).collect(Collectors.toList())));
+    }
 }
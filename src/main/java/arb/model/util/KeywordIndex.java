@@ -0,0 +1,98 @@
+package arb.model.util;
+
+import static arb.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import arb.commons.util.StringUtil;
+
+/**
+ * An inverted index from the words in a piece of text, such as a name or title, to the items with that text.
+ * Words are matched whole and ignoring case, in the same way as
+ * {@link arb.commons.util.StringUtil#containsWordIgnoreCase(String, String)}.
+ *
+ * Items are told apart by identity rather than by {@code equals}, as the model's objects can change in place.
+ *
+ * @param <T> the type of the items indexed.
+ */
+public class KeywordIndex<T> {
+
+    private final Map<String, Set<T>> itemsByWord = new HashMap<>();
+
+    /**
+     * Indexes {@code item} under each word in {@code text}.
+     */
+    public void add(String text, T item) {
+        requireAllNonNull(text, item);
+        for (String word : toWords(text)) {
+            itemsByWord.computeIfAbsent(word, w -> Collections.newSetFromMap(new IdentityHashMap<>())).add(item);
+        }
+    }
+
+    /**
+     * Removes {@code item} from under each word in {@code text}, which must be the text it was indexed with.
+     */
+    public void remove(String text, T item) {
+        requireAllNonNull(text, item);
+        for (String word : toWords(text)) {
+            Set<T> items = itemsByWord.get(word);
+            if (items == null) {
+                continue;
+            }
+            items.remove(item);
+            if (items.isEmpty()) {
+                itemsByWord.remove(word);
+            }
+        }
+    }
+
+    public void clear() {
+        itemsByWord.clear();
+    }
+
+    /**
+     * Returns the items whose text contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set is a new set that tells items apart by identity.
+     */
+    public Set<T> getItemsContainingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<T> items = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            items.addAll(itemsByWord.getOrDefault(normalize(keyword), Collections.emptySet()));
+        }
+        return items;
+    }
+
+    private static String normalize(String word) {
+        return StringUtil.toLowerCase(word.trim());
+    }
+
+    /**
+     * Returns the distinct words in {@code text}, which are separated by whitespace.
+     */
+    private static List<String> toWords(String text) {
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordEnd = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (!isWordEnd && wordStart == -1) {
+                wordStart = i;
+            } else if (isWordEnd && wordStart != -1) {
+                String word = normalize(text.substring(wordStart, i));
+                if (!words.contains(word)) {
+                    words.add(word);
+                }
+                wordStart = -1;
+            }
+        }
+        return words;
+    }
+}
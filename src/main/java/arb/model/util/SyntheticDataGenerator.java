@@ -0,0 +1,263 @@
+package arb.model.util;
+
+import static arb.commons.util.AppUtil.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import arb.model.AddressBook;
+import arb.model.client.Client;
+import arb.model.client.Email;
+import arb.model.client.Name;
+import arb.model.client.Phone;
+import arb.model.project.Deadline;
+import arb.model.project.Price;
+import arb.model.project.Project;
+import arb.model.project.Status;
+import arb.model.project.Title;
+
+/**
+ * Generates address books of any size from a seed, for trying out the app with realistic amounts of data.
+ *
+ * The same seed, sizes, link density and date always generate the same address book. Each client and project
+ * is generated from its own index, so they can be generated one at a time and written out without holding the
+ * whole address book in memory.
+ *
+ * Names and titles are drawn from small pools of words, so many clients share a first or last name and many
+ * projects share words in their titles; a number is added to keep them unique once the pool runs out. A few
+ * tags are used far more often than the rest, and a few clients have many more projects than the rest.
+ * Deadlines are spread around the given date, earlier projects are more likely to be done, and prices range
+ * from tens to tens of thousands of dollars, mostly in round amounts.
+ */
+public class SyntheticDataGenerator {
+
+    public static final double DEFAULT_LINK_DENSITY = 0.6;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling", "Ahmad", "Priya", "Jun Jie",
+        "Siti", "Marcus", "Hui Min", "Ravi", "Chloe", "Daniel", "Nur", "Kenneth", "Mei", "Arjun",
+        "Sarah", "Ethan", "Farah", "Jonathan", "Grace", "Hafiz", "Joanne", "Kumar", "Rachel", "Zhi Hao"
+    };
+    private static final String[] LAST_NAMES = {
+        "Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan", "Lim", "Lee", "Ng",
+        "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ong", "Rahman", "Pillai", "Nair",
+        "Ho", "Low", "Sim", "Chong", "Yap", "Ismail", "Singh", "Loh", "Foo", "Quek"
+    };
+    private static final String[] EMAIL_DOMAINS = {"example.com", "mail.com", "studio.sg", "gallery.org"};
+    private static final String[] TITLE_SUBJECTS = {
+        "Sky", "Tree", "Harbour", "Sunset", "Garden", "Family", "Skyline", "Orchid", "Market", "River",
+        "Mountain", "Ocean", "Street", "Temple", "Forest", "Lighthouse", "Wedding", "Cat", "Dog", "Kitchen"
+    };
+    private static final String[] TITLE_KINDS = {
+        "Painting", "Sculpture", "Portrait", "Mural", "Sketch", "Print", "Illustration", "Study", "Poster", "Logo"
+    };
+    private static final String[] CLIENT_TAGS = {
+        "friends", "colleagues", "repeat", "corporate", "family", "gallery", "neighbours", "classmates",
+        "referral", "overseas", "vip", "school"
+    };
+    private static final String[] PROJECT_TAGS = {
+        "painting", "commission", "personal", "oil", "watercolour", "portrait", "landscape", "digital",
+        "sculpture", "mural", "urgent", "exhibition", "gift", "print", "charity", "framed"
+    };
+    /** Chances out of 100 of a client or project having 0, 1, 2 and 3 tags. */
+    private static final int[] TAG_COUNT_CHANCES = {25, 40, 25, 10};
+
+    private static final long CLIENT_SALT = 0x436c69656e74L;
+    private static final long PROJECT_SALT = 0x50726f6a656374L;
+    private static final long LINK_SALT = 0x4c696e6bL;
+
+    private static final int MAX_DEADLINE_DAYS = 180;
+    private static final double MIN_PRICE_CENTS = 20_00;
+    private static final double MAX_PRICE_CENTS = 20_000_00;
+
+    private final long seed;
+    private final int clientCount;
+    private final int projectCount;
+    private final double linkDensity;
+    private final LocalDate today;
+
+    /**
+     * Creates a {@code SyntheticDataGenerator} for address books of {@code clientCount} clients and
+     * {@code projectCount} projects, with about {@code linkDensity} of the projects linked to a client and
+     * deadlines spread around {@code today}.
+     */
+    public SyntheticDataGenerator(long seed, int clientCount, int projectCount, double linkDensity, LocalDate today) {
+        requireNonNull(today);
+        checkArgument(clientCount >= 0 && projectCount >= 0, "The number of clients or projects cannot be negative");
+        checkArgument(linkDensity >= 0 && linkDensity <= 1, "The link density must be between 0 and 1");
+        this.seed = seed;
+        this.clientCount = clientCount;
+        this.projectCount = projectCount;
+        this.linkDensity = linkDensity;
+        this.today = today;
+    }
+
+    public int getClientCount() {
+        return clientCount;
+    }
+
+    public int getProjectCount() {
+        return projectCount;
+    }
+
+    /**
+     * Returns the name of the client at {@code index}. No two clients have the same name.
+     */
+    public Name getClientName(int index) {
+        String[] words = getWords(index, FIRST_NAMES, LAST_NAMES);
+        return new Name(words[0] + " " + words[1] + words[2]);
+    }
+
+    /**
+     * Returns the client at {@code index}, without any linked projects.
+     */
+    public Client getClient(int index) {
+        checkIndex(index, clientCount);
+        SplittableRandom random = getRandom(CLIENT_SALT, index);
+        Name name = getClientName(index);
+        Phone phone = random.nextInt(10) == 0
+                ? null
+                : new Phone(String.valueOf(80000000 + random.nextInt(20000000)));
+        Email email = random.nextInt(5) == 0
+                ? null
+                : new Email(name.fullName.toLowerCase(Locale.ROOT).replace(' ', '.') + "@"
+                        + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)]);
+        return new Client(name, phone, email, SampleDataUtil.getTagSet(getTagNames(random, CLIENT_TAGS)));
+    }
+
+    /**
+     * Returns the project at {@code index}, without a linked client.
+     */
+    public Project getProject(int index) {
+        checkIndex(index, projectCount);
+        SplittableRandom random = getRandom(PROJECT_SALT, index);
+        String[] words = getWords(index, TITLE_SUBJECTS, TITLE_KINDS);
+        Title title = new Title(words[0] + " " + words[1] + words[2]);
+
+        Deadline deadline = null;
+        if (random.nextInt(10) != 0) {
+            // most deadlines are close to today, and two in three are still to come
+            long days = Math.round(random.nextDouble() * random.nextDouble() * MAX_DEADLINE_DAYS)
+                    * (random.nextInt(3) == 0 ? -1 : 1);
+            LocalDateTime dueDate = today.plusDays(days).atTime(9 + random.nextInt(10), random.nextInt(2) * 30);
+            deadline = Deadline.of(dueDate);
+        }
+
+        int doneChance = deadline == null ? 30 : deadline.dueDate.toLocalDate().isBefore(today) ? 85 : 10;
+        Status status = new Status(random.nextInt(100) < doneChance);
+
+        Price price = random.nextInt(5) == 0 ? null : Price.ofCents(getPriceCents(random));
+        return new Project(title, status, deadline, price,
+                SampleDataUtil.getTagSet(getTagNames(random, PROJECT_TAGS)));
+    }
+
+    /**
+     * Returns the index of the client that the project at {@code index} is linked to, if it is linked to one.
+     */
+    public OptionalInt getLinkedClientIndex(int index) {
+        checkIndex(index, projectCount);
+        SplittableRandom random = getRandom(LINK_SALT, index);
+        if (clientCount == 0 || random.nextDouble() >= linkDensity) {
+            return OptionalInt.empty();
+        }
+        // squaring skews the links towards a few clients with many projects
+        double skewed = random.nextDouble();
+        return OptionalInt.of((int) (skewed * skewed * clientCount));
+    }
+
+    /**
+     * Returns the clients, generating each one as it is iterated over.
+     */
+    public Iterable<Client> getClients() {
+        return () -> IntStream.range(0, clientCount).mapToObj(this::getClient).iterator();
+    }
+
+    /**
+     * Returns the projects, generating each one as it is iterated over. Linked projects are linked to a newly
+     * generated copy of their client, which only has the project's client name in common with the address book.
+     */
+    public Iterable<Project> getProjects() {
+        return () -> IntStream.range(0, projectCount).mapToObj(index -> {
+            Project project = getProject(index);
+            getLinkedClientIndex(index).ifPresent(clientIndex -> project.linkToClient(getClient(clientIndex)));
+            return project;
+        }).iterator();
+    }
+
+    /**
+     * Returns the whole address book, held in memory.
+     */
+    public AddressBook generateAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (Client client : getClients()) {
+            addressBook.addClient(client);
+        }
+        for (int i = 0; i < projectCount; i++) {
+            Project project = getProject(i);
+            OptionalInt clientIndex = getLinkedClientIndex(i);
+            if (clientIndex.isPresent()) {
+                addressBook.linkProjectToClient(getClientName(clientIndex.getAsInt()), project);
+            }
+            addressBook.addProject(project);
+        }
+        return addressBook;
+    }
+
+    private SplittableRandom getRandom(long salt, int index) {
+        return new SplittableRandom((seed * 31 + salt) * 31 + index);
+    }
+
+    /**
+     * Returns a pair of words for {@code index}, from {@code firstWords} and {@code secondWords}, and a number
+     * to tell it apart once every pair has been used. Consecutive indexes get far apart pairs.
+     */
+    private static String[] getWords(int index, String[] firstWords, String[] secondWords) {
+        int pairCount = firstWords.length * secondWords.length;
+        // a step coprime with the number of pairs visits every pair once before any is used again
+        int pair = (int) ((long) (index % pairCount) * 7919 % pairCount);
+        int round = index / pairCount;
+        return new String[] {firstWords[pair % firstWords.length], secondWords[pair / firstWords.length],
+            round == 0 ? "" : " " + (round + 1)};
+    }
+
+    /**
+     * Returns a few distinct tag names from {@code tagNames}, favouring those near the start.
+     */
+    private static String[] getTagNames(SplittableRandom random, String[] tagNames) {
+        int roll = random.nextInt(100);
+        int tagCount = 0;
+        while (roll >= TAG_COUNT_CHANCES[tagCount]) {
+            roll -= TAG_COUNT_CHANCES[tagCount];
+            tagCount++;
+        }
+        return random.ints(0, tagNames.length * tagNames.length)
+                .map(i -> (int) Math.sqrt(i))
+                .map(i -> tagNames.length - 1 - i)
+                .distinct()
+                .limit(tagCount)
+                .mapToObj(i -> tagNames[i])
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Returns a price between tens and tens of thousands of dollars, spread evenly on a log scale and mostly
+     * rounded to ten or one dollar.
+     */
+    private static long getPriceCents(SplittableRandom random) {
+        double cents = MIN_PRICE_CENTS * Math.pow(MAX_PRICE_CENTS / MIN_PRICE_CENTS, random.nextDouble());
+        int rounding = random.nextInt(20);
+        long unit = rounding < 12 ? 10_00 : rounding < 17 ? 1_00 : 1;
+        return Math.max(unit, Math.round(cents / unit) * unit);
+    }
+
+    private static void checkIndex(int index, int count) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for " + count + " items");
+        }
+    }
+}
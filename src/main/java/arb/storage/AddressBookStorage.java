@@ -42,4 +42,21 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Prepares a save of the given {@link ReadOnlyAddressBook} to the storage at {@code filePath}, which can be
+     * written later from any thread. Writing the prepared save has the same effect as calling
+     * {@link #saveAddressBook(ReadOnlyAddressBook, Path)} now.
+     * Returns {@code Optional.empty()} if there is nothing to write.
+     * Saves prepared by the same storage must be written in the order they were prepared.
+     */
+    Optional<PreparedSave> prepareSaveAddressBook(ReadOnlyAddressBook addressBook, Path filePath);
+
+    /**
+     * Exports the given {@link ReadOnlyAddressBook} as json, the format that address books are exported in,
+     * if the storage keeps address books in another format.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void exportAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
 }
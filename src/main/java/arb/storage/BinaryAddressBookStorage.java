@@ -0,0 +1,185 @@
+package arb.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import arb.commons.core.LogsCenter;
+import arb.commons.core.metrics.MetricsRegistry;
+import arb.commons.exceptions.DataConversionException;
+import arb.commons.exceptions.IllegalValueException;
+import arb.commons.util.FileUtil;
+import arb.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot file on the hard disk.
+ *
+ * The binary format is faster to load than json, but is not meant to be read or edited by users, so json remains
+ * the format to import and export address books in. If a json {@code AddressBookStorage} is given, the address book
+ * is imported from it when there is no binary snapshot yet, and is exported to it by
+ * {@link #exportAddressBook(ReadOnlyAddressBook)}.
+ *
+ * The snapshot is written to a temporary file that then replaces it, so that a failed write leaves the previous
+ * snapshot in place.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Optional<AddressBookStorage> jsonStorage;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+        this.jsonStorage = Optional.empty();
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that imports the address book from {@code jsonStorage}
+     * if there is no binary snapshot at {@code filePath} yet, and exports the address book to {@code jsonStorage}.
+     */
+    public BinaryAddressBookStorage(Path filePath, AddressBookStorage jsonStorage) {
+        requireNonNull(jsonStorage);
+        this.filePath = filePath;
+        this.jsonStorage = Optional.of(jsonStorage);
+    }
+
+    /**
+     * Returns the path of the binary snapshot to keep in place of the address book file at {@code filePath}.
+     */
+    public static Path getBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the temporary file that the snapshot at {@code filePath} is written to before it
+     * replaces the snapshot.
+     */
+    public static Path getTemporaryFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the address book in the binary snapshot, or the address book imported from the json storage
+     * if there is no binary snapshot yet.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(filePath);
+        if (addressBook.isPresent() || !jsonStorage.isPresent()) {
+            return addressBook;
+        }
+
+        logger.info("Binary data file " + filePath + " not found, importing from "
+                + jsonStorage.get().getAddressBookFilePath());
+        return jsonStorage.get().readAddressBook();
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but without importing.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(BinarySerializableAddressBook.readAddressBook(in, Files.size(filePath)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        prepareSaveAddressBook(addressBook, filePath).get().write();
+    }
+
+    @Override
+    public Optional<PreparedSave> prepareSaveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinarySerializableAddressBook data = new BinarySerializableAddressBook(addressBook);
+        return Optional.of(new PreparedSave(filePath, true, () -> writeBinaryAddressBook(data, filePath)));
+    }
+
+    /**
+     * Saves {@code addressBook} to the json storage, if there is one.
+     */
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        if (jsonStorage.isPresent()) {
+            logger.info("Exporting address book to " + jsonStorage.get().getAddressBookFilePath());
+            jsonStorage.get().saveAddressBook(addressBook);
+        }
+    }
+
+    private void writeBinaryAddressBook(BinarySerializableAddressBook data, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFilePath = getTemporaryFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(temporaryFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+            data.writeTo(out);
+            out.flush();
+            // the snapshot must be on the disk before it replaces the previous one
+            channel.force(true);
+            MetricsRegistry.getDefault().add(MetricsRegistry.BYTES_WRITTEN_COUNT, out.size());
+        } catch (IOException ioe) {
+            Files.deleteIfExists(temporaryFilePath);
+            throw ioe;
+        }
+
+        try {
+            Files.move(temporaryFilePath, filePath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(temporaryFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package arb.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import arb.commons.exceptions.IllegalValueException;
+import arb.model.AddressBook;
+import arb.model.ReadOnlyAddressBook;
+import arb.model.client.Client;
+import arb.model.client.Email;
+import arb.model.client.Name;
+import arb.model.client.Phone;
+import arb.model.project.Deadline;
+import arb.model.project.Price;
+import arb.model.project.Project;
+import arb.model.project.Title;
+import arb.model.tag.Tag;
+
+/**
+ * An Immutable AddressBook that is serializable to a compact binary format.
+ *
+ * The format starts with a magic number and a format version, followed by a table of every distinct string
+ * in the address book, and then by the clients and projects, which refer to their strings by their position
+ * in the table. Strings and lists are prefixed with their length, and deadlines and prices are stored as
+ * primitives, so that reading an address book does not involve parsing any text.
+ */
+class BinarySerializableAddressBook {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "File is not a binary address book.";
+    public static final String MESSAGE_CORRUPTED = "Binary address book is corrupted.";
+
+    static final int MAGIC_NUMBER = 0x41524221;
+    static final int FORMAT_VERSION = 2;
+    // version 1 stored prices as doubles rather than as cents
+    static final int DOUBLE_PRICE_FORMAT_VERSION = 1;
+
+    private static final int NONE = -1;
+
+    // the fewest bytes that each kind of element in a list takes up
+    private static final int MIN_STRING_BYTES = 4;
+    private static final int MIN_CLIENT_BYTES = 16;
+    private static final int MIN_PROJECT_BYTES = 9;
+    private static final int MIN_TAG_BYTES = 4;
+
+    private static final int FLAG_DONE = 1;
+    private static final int FLAG_HAS_DEADLINE = 1 << 1;
+    private static final int FLAG_HAS_PRICE = 1 << 2;
+    private static final int FLAG_HAS_LINKED_CLIENT = 1 << 3;
+
+    private final List<String> strings = new ArrayList<>();
+    private final List<BinaryClient> clients = new ArrayList<>();
+    private final List<BinaryProject> projects = new ArrayList<>();
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for serialization.
+     *
+     * @param source future changes to this will not affect the created {@code BinarySerializableAddressBook}.
+     */
+    public BinarySerializableAddressBook(ReadOnlyAddressBook source) {
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        Map<Name, Integer> clientIndexes = new HashMap<>();
+
+        for (Client client : source.getClientList()) {
+            clientIndexes.put(client.getName(), clients.size());
+            clients.add(new BinaryClient(
+                    intern(client.getName().fullName, stringIndexes),
+                    client.isPhonePresent() ? intern(client.getPhone().value, stringIndexes) : NONE,
+                    client.isEmailPresent() ? intern(client.getEmail().value, stringIndexes) : NONE,
+                    internTags(client.getTags(), stringIndexes)));
+        }
+
+        for (Project project : source.getProjectList()) {
+            int flags = 0;
+            long deadlineSeconds = 0;
+            int deadlineNanos = 0;
+            long priceCents = 0;
+            int linkedClient = NONE;
+            if (project.getStatus().getStatus()) {
+                flags |= FLAG_DONE;
+            }
+            if (project.isDeadlinePresent()) {
+                flags |= FLAG_HAS_DEADLINE;
+                deadlineSeconds = project.getDeadline().dueDate.toEpochSecond(ZoneOffset.UTC);
+                deadlineNanos = project.getDeadline().dueDate.getNano();
+            }
+            if (project.isPricePresent()) {
+                flags |= FLAG_HAS_PRICE;
+                priceCents = project.getPrice().getCents();
+            }
+            if (project.getLinkedClient().isPresent()) {
+                flags |= FLAG_HAS_LINKED_CLIENT;
+                linkedClient = clientIndexes.get(project.getLinkedClient().get().getName());
+            }
+            int[] tags = internTags(project.getTags(), stringIndexes);
+            projects.add(new BinaryProject(intern(project.getTitle().fullTitle, stringIndexes), flags,
+                    deadlineSeconds, deadlineNanos, priceCents, linkedClient, tags));
+        }
+    }
+
+    /**
+     * Returns the position of {@code string} in the string table, adding it to the table if it is not there yet.
+     */
+    private int intern(String string, Map<String, Integer> stringIndexes) {
+        return stringIndexes.computeIfAbsent(string, s -> {
+            strings.add(s);
+            return strings.size() - 1;
+        });
+    }
+
+    private int[] internTags(Set<Tag> tags, Map<String, Integer> stringIndexes) {
+        return tags.stream().mapToInt(tag -> intern(tag.tagName, stringIndexes)).toArray();
+    }
+
+    /**
+     * Writes this address book to {@code out}.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(clients.size());
+        for (BinaryClient client : clients) {
+            out.writeInt(client.name);
+            out.writeInt(client.phone);
+            out.writeInt(client.email);
+            writeInts(out, client.tags);
+        }
+
+        out.writeInt(projects.size());
+        for (BinaryProject project : projects) {
+            out.writeInt(project.title);
+            out.writeByte(project.flags);
+            if ((project.flags & FLAG_HAS_DEADLINE) != 0) {
+                out.writeLong(project.deadlineSeconds);
+                out.writeInt(project.deadlineNanos);
+            }
+            if ((project.flags & FLAG_HAS_PRICE) != 0) {
+                out.writeLong(project.priceCents);
+            }
+            if ((project.flags & FLAG_HAS_LINKED_CLIENT) != 0) {
+                out.writeInt(project.linkedClient);
+            }
+            writeInts(out, project.tags);
+        }
+    }
+
+    private static void writeInts(DataOutput out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    /**
+     * Reads an address book written by {@link #writeTo(DataOutput)} from {@code in}, converting each client
+     * and project into the model's objects as it is read.
+     *
+     * @param size the number of bytes that can be read from {@code in}, which no list can be longer than.
+     * @throws IOException if a list is longer than the data could hold, as well as if reading fails.
+     * @throws IllegalValueException if the data is not a binary address book, or any data constraints were
+     *     violated.
+     */
+    public static AddressBook readAddressBook(DataInput in, long size) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION && version != DOUBLE_PRICE_FORMAT_VERSION) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        String[] strings = new String[readLength(in, MIN_STRING_BYTES, size)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readLength(in, 1, size)];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        Tag[] tags = new Tag[strings.length];
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            Client[] clients = new Client[readLength(in, MIN_CLIENT_BYTES, size)];
+            for (int i = 0; i < clients.length; i++) {
+                Name name = new Name(strings[in.readInt()]);
+                int phone = in.readInt();
+                int email = in.readInt();
+                Set<Tag> clientTags = readTags(in, strings, tags, size);
+                clients[i] = new Client(name, phone == NONE ? null : new Phone(strings[phone]),
+                        email == NONE ? null : new Email(strings[email]), clientTags);
+                if (addressBook.hasClient(clients[i])) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_CLIENT);
+                }
+                addressBook.addClient(clients[i]);
+            }
+
+            int projectCount = readLength(in, MIN_PROJECT_BYTES, size);
+            for (int i = 0; i < projectCount; i++) {
+                Title title = new Title(strings[in.readInt()]);
+                int flags = in.readByte();
+                Deadline deadline = (flags & FLAG_HAS_DEADLINE) == 0
+                        ? null
+                        : Deadline.of(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC));
+                Price price = (flags & FLAG_HAS_PRICE) == 0 ? null : readPrice(in, version);
+                Client linkedClient = (flags & FLAG_HAS_LINKED_CLIENT) == 0 ? null : clients[in.readInt()];
+                Project project = new Project(title, deadline, price, readTags(in, strings, tags, size));
+                if ((flags & FLAG_DONE) != 0) {
+                    project.markAsDone();
+                }
+                if (linkedClient != null) {
+                    addressBook.linkProjectToClient(linkedClient.getName(), project);
+                }
+                if (addressBook.hasProject(project)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PROJECT);
+                }
+                addressBook.addProject(project);
+            }
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage(), iae);
+        } catch (IndexOutOfBoundsException ioobe) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, ioobe);
+        } catch (DateTimeException dte) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, dte);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads a price stored in the given format {@code version}.
+     */
+    private static Price readPrice(DataInput in, int version) throws IOException {
+        return version == DOUBLE_PRICE_FORMAT_VERSION
+                ? Price.ofCents(Math.round(in.readDouble() * 100))
+                : Price.ofCents(in.readLong());
+    }
+
+    /**
+     * Reads a list of tags, creating only one {@code Tag} for each distinct tag name.
+     */
+    private static Set<Tag> readTags(DataInput in, String[] strings, Tag[] tags, long size) throws IOException {
+        int tagCount = readLength(in, MIN_TAG_BYTES, size);
+        Set<Tag> readTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int tag = in.readInt();
+            if (tags[tag] == null) {
+                tags[tag] = new Tag(strings[tag]);
+            }
+            readTags.add(tags[tag]);
+        }
+        return readTags;
+    }
+
+    /**
+     * Reads the length of a list of elements that each take up at least {@code minElementBytes}, checking that
+     * the list fits in {@code size} bytes before anything is allocated for it.
+     */
+    private static int readLength(DataInput in, int minElementBytes, long size) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || (long) length * minElementBytes > size) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return length;
+    }
+
+    /**
+     * A client whose strings are positions in the string table.
+     */
+    private static class BinaryClient {
+        private final int name;
+        private final int phone;
+        private final int email;
+        private final int[] tags;
+
+        BinaryClient(int name, int phone, int email, int[] tags) {
+            this.name = name;
+            this.phone = phone;
+            this.email = email;
+            this.tags = tags;
+        }
+    }
+
+    /**
+     * A project whose strings are positions in the string table, and whose linked client is a position
+     * in the client list.
+     */
+    private static class BinaryProject {
+        private final int title;
+        private final int flags;
+        private final long deadlineSeconds;
+        private final int deadlineNanos;
+        private final long priceCents;
+        private final int linkedClient;
+        private final int[] tags;
+
+        BinaryProject(int title, int flags, long deadlineSeconds, int deadlineNanos, long priceCents,
+                int linkedClient, int[] tags) {
+            this.title = title;
+            this.flags = flags;
+            this.deadlineSeconds = deadlineSeconds;
+            this.deadlineNanos = deadlineNanos;
+            this.priceCents = priceCents;
+            this.linkedClient = linkedClient;
+            this.tags = tags;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package arb.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import arb.commons.core.LogsCenter;
+import arb.commons.core.metrics.MetricsRegistry;
+import arb.commons.exceptions.DataConversionException;
+import arb.commons.exceptions.IllegalValueException;
+import arb.commons.util.FileUtil;
+import arb.commons.util.JsonUtil;
+import arb.model.ReadOnlyAddressBook;
+import arb.model.client.Client;
+import arb.model.project.Project;
+import javafx.collections.ListChangeListener;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file on the hard disk, together with an
+ * append-only journal of the changes made to the address book since the snapshot was written.
+ *
+ * Once an address book has been saved, further saves of the same address book only append the changes made to
+ * its client and project lists since the previous save to the journal, so that the cost of a save is proportional
+ * to the size of the change instead of the size of the address book. The journal is compacted into the snapshot
+ * once replaying it would cost about as much as reading the whole address book, and is replayed on top of the
+ * snapshot when the address book is read.
+ */
+public class JournaledJsonAddressBookStorage extends JsonAddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** Number of journalled elements that are always allowed before the journal is compacted. */
+    public static final int MIN_COMPACTION_THRESHOLD = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledJsonAddressBookStorage.class);
+
+    private final List<Supplier<JsonAdaptedListChange>> pendingChanges = new ArrayList<>();
+    private final ListChangeListener<Client> clientListListener = change ->
+            recordChanges(change, JsonAdaptedListChange::ofClients);
+    private final ListChangeListener<Project> projectListListener = change ->
+            recordChanges(change, JsonAdaptedListChange::ofProjects);
+
+    private ReadOnlyAddressBook trackedAddressBook;
+    private Path trackedFilePath;
+    private int pendingElements;
+    private int journalledElements;
+    private volatile boolean isJournalStale;
+
+    public JournaledJsonAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the address book stored in the snapshot at {@code filePath}, with the changes in its journal applied.
+     * The journal is ignored if it was not written for the current snapshot.
+     *
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        List<JsonAdaptedListChange> changes = readJournal(filePath);
+        if (changes.isEmpty()) {
+            return super.readAddressBook(filePath);
+        }
+
+        // the changes refer to positions in the lists of the snapshot, so the snapshot has to be read as a whole
+        Optional<JsonSerializableAddressBook> snapshot = readJsonAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            for (JsonAdaptedListChange change : changes) {
+                change.applyTo(snapshot.get());
+            }
+            return Optional.of(snapshot.get().toModelType());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Optional<PreparedSave> save = prepareSaveAddressBook(addressBook, filePath);
+        if (save.isPresent()) {
+            save.get().write();
+        }
+    }
+
+    /**
+     * Prepares a save of {@code addressBook} at {@code filePath}, which only appends the changes since the
+     * previous save to the journal if {@code addressBook} was also the address book previously saved at
+     * {@code filePath}.
+     */
+    @Override
+    public Optional<PreparedSave> prepareSaveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (addressBook != trackedAddressBook || !filePath.equals(trackedFilePath)
+                || isJournalStale || isCompactionDue(addressBook)) {
+            return Optional.of(prepareCompaction(addressBook, filePath));
+        }
+
+        if (pendingChanges.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<JsonAdaptedListChange> changes = new ArrayList<>();
+        for (Supplier<JsonAdaptedListChange> change : pendingChanges) {
+            changes.add(change.get());
+        }
+        journalledElements += pendingElements;
+        pendingElements = 0;
+        pendingChanges.clear();
+
+        PreparedSave append = new PreparedSave(filePath, false, () -> {
+            if (isJournalStale) {
+                throw new IOException("Journal of " + filePath + " is missing changes after a failed save");
+            }
+            StringBuilder entries = new StringBuilder();
+            for (JsonAdaptedListChange change : changes) {
+                entries.append(JsonUtil.toCompactJsonString(change)).append('\n');
+            }
+            int bytesWritten = FileUtil.appendToFile(getJournalFilePath(filePath), entries.toString());
+            MetricsRegistry.getDefault().add(MetricsRegistry.BYTES_WRITTEN_COUNT, bytesWritten);
+        });
+        // the journal may now be partially written, so the next save has to rewrite the snapshot
+        return Optional.of(append.onFailure(() -> isJournalStale = true));
+    }
+
+    /**
+     * Returns true if replaying the journal after the pending changes are appended would cost more than
+     * reading {@code addressBook} from a snapshot.
+     */
+    private boolean isCompactionDue(ReadOnlyAddressBook addressBook) {
+        int bookSize = addressBook.getClientList().size() + addressBook.getProjectList().size();
+        return journalledElements + pendingElements > Math.max(MIN_COMPACTION_THRESHOLD, bookSize);
+    }
+
+    /**
+     * Prepares a save of {@code addressBook} as a new snapshot at {@code filePath} with an empty journal,
+     * and tracks further changes to {@code addressBook}.
+     */
+    private PreparedSave prepareCompaction(ReadOnlyAddressBook addressBook, Path filePath) {
+        stopTracking();
+
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(addressBook);
+        trackedAddressBook = addressBook;
+        trackedFilePath = filePath;
+        addressBook.getClientList().addListener(clientListListener);
+        addressBook.getProjectList().addListener(projectListListener);
+
+        PreparedSave compaction = new PreparedSave(filePath, true, () -> {
+            writeJsonAddressBook(data, filePath);
+            int bytesWritten = FileUtil.writeToFile(getJournalFilePath(filePath),
+                    JsonUtil.toCompactJsonString(new JsonAdaptedJournalHeader(filePath)) + '\n');
+            MetricsRegistry.getDefault().add(MetricsRegistry.BYTES_WRITTEN_COUNT, bytesWritten);
+            isJournalStale = false;
+        });
+        return compaction.onFailure(() -> isJournalStale = true);
+    }
+
+    private void stopTracking() {
+        if (trackedAddressBook != null) {
+            trackedAddressBook.getClientList().removeListener(clientListListener);
+            trackedAddressBook.getProjectList().removeListener(projectListListener);
+        }
+        trackedAddressBook = null;
+        trackedFilePath = null;
+        pendingChanges.clear();
+        pendingElements = 0;
+        journalledElements = 0;
+    }
+
+    /**
+     * Records each change in {@code change} to be appended to the journal on the next save.
+     * The changed elements are only converted by {@code adapter} when they are saved, so that elements changed
+     * several times between saves are converted in their final state.
+     */
+    private <T> void recordChanges(ListChangeListener.Change<? extends T> change, ListChangeAdapter<T> adapter) {
+        while (change.next()) {
+            int from = change.getFrom();
+            int removedCount;
+            List<T> added;
+            if (change.wasPermutated() || change.wasUpdated()) {
+                removedCount = change.getTo() - from;
+                added = new ArrayList<>(change.getList().subList(from, change.getTo()));
+            } else {
+                removedCount = change.getRemovedSize();
+                added = new ArrayList<>(change.getAddedSubList());
+            }
+
+            pendingChanges.add(() -> adapter.adapt(from, removedCount, added));
+            pendingElements += 1 + added.size();
+        }
+    }
+
+    /**
+     * Returns the changes in the journal of the snapshot at {@code filePath}, or an empty list if there is
+     * no journal written for the current snapshot.
+     */
+    private List<JsonAdaptedListChange> readJournal(Path filePath) throws DataConversionException {
+        List<JsonAdaptedListChange> changes = new ArrayList<>();
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!FileUtil.isFileExists(filePath) || !FileUtil.isFileExists(journalFilePath)) {
+            return changes;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null
+                    || !JsonUtil.fromJsonString(header, JsonAdaptedJournalHeader.class).isHeaderOf(filePath)) {
+                logger.info("Journal " + journalFilePath + " was not written for " + filePath + ", ignoring it");
+                return changes;
+            }
+
+            String entry = reader.readLine();
+            while (entry != null) {
+                String nextEntry = reader.readLine();
+                try {
+                    changes.add(JsonUtil.fromJsonString(entry, JsonAdaptedListChange.class));
+                } catch (JsonProcessingException jpe) {
+                    if (nextEntry != null) {
+                        throw jpe;
+                    }
+                    // only the last entry can be incomplete, if the app was stopped while it was being written
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                }
+                entry = nextEntry;
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading journal " + journalFilePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+        return changes;
+    }
+
+    /**
+     * Converts a change to a list of address book elements into its Jackson-friendly version.
+     */
+    @FunctionalInterface
+    private interface ListChangeAdapter<T> {
+        JsonAdaptedListChange adapt(int from, int removedCount, List<T> added);
+    }
+
+    /**
+     * Jackson-friendly header of a journal, identifying the snapshot file that the journal was started for.
+     */
+    static class JsonAdaptedJournalHeader {
+
+        private final long snapshotSize;
+        private final long snapshotLastModified;
+
+        /**
+         * Constructs a {@code JsonAdaptedJournalHeader} with the given snapshot file attributes.
+         */
+        @JsonCreator
+        public JsonAdaptedJournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+                @JsonProperty("snapshotLastModified") long snapshotLastModified) {
+            this.snapshotSize = snapshotSize;
+            this.snapshotLastModified = snapshotLastModified;
+        }
+
+        /**
+         * Constructs a {@code JsonAdaptedJournalHeader} for the snapshot at {@code snapshotFilePath}.
+         */
+        public JsonAdaptedJournalHeader(Path snapshotFilePath) throws IOException {
+            this(Files.size(snapshotFilePath), Files.getLastModifiedTime(snapshotFilePath).toMillis());
+        }
+
+        /**
+         * Returns true if this is the header of a journal started for the snapshot at {@code snapshotFilePath}
+         * in its current state.
+         */
+        public boolean isHeaderOf(Path snapshotFilePath) throws IOException {
+            return snapshotSize == Files.size(snapshotFilePath)
+                    && snapshotLastModified == Files.getLastModifiedTime(snapshotFilePath).toMillis();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package arb.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import arb.commons.exceptions.IllegalValueException;
+import arb.model.client.Client;
+import arb.model.project.Project;
+
+/**
+ * Jackson-friendly version of a change to the client or project list of an address book, in which
+ * {@code removedCount} elements starting at position {@code from} are replaced by the added elements.
+ */
+class JsonAdaptedListChange {
+
+    public static final String CLIENT_LIST = "clients";
+    public static final String PROJECT_LIST = "projects";
+    public static final String MESSAGE_INVALID_LIST = "List change refers to an unknown list: %s";
+    public static final String MESSAGE_INVALID_RANGE = "List change does not fit the %s list of the address book.";
+
+    private final String list;
+    private final int from;
+    private final int removedCount;
+    private final List<JsonAdaptedClient> clients = new ArrayList<>();
+    private final List<JsonAdaptedProject> projects = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("list") String list, @JsonProperty("from") int from,
+            @JsonProperty("removedCount") int removedCount,
+            @JsonProperty("clients") List<JsonAdaptedClient> clients,
+            @JsonProperty("projects") List<JsonAdaptedProject> projects) {
+        this.list = list;
+        this.from = from;
+        this.removedCount = removedCount;
+        if (clients != null) {
+            this.clients.addAll(clients);
+        }
+        if (projects != null) {
+            this.projects.addAll(projects);
+        }
+    }
+
+    /**
+     * Returns a {@code JsonAdaptedListChange} replacing {@code removedCount} clients from position {@code from}
+     * with {@code added}.
+     */
+    public static JsonAdaptedListChange ofClients(int from, int removedCount, List<Client> added) {
+        return new JsonAdaptedListChange(CLIENT_LIST, from, removedCount,
+                added.stream().map(JsonAdaptedClient::new).collect(Collectors.toList()), null);
+    }
+
+    /**
+     * Returns a {@code JsonAdaptedListChange} replacing {@code removedCount} projects from position {@code from}
+     * with {@code added}.
+     */
+    public static JsonAdaptedListChange ofProjects(int from, int removedCount, List<Project> added) {
+        return new JsonAdaptedListChange(PROJECT_LIST, from, removedCount, null,
+                added.stream().map(JsonAdaptedProject::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Applies this change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if this change does not fit {@code addressBook}.
+     */
+    public void applyTo(JsonSerializableAddressBook addressBook) throws IllegalValueException {
+        try {
+            if (CLIENT_LIST.equals(list)) {
+                addressBook.replaceClients(from, removedCount, clients);
+            } else if (PROJECT_LIST.equals(list)) {
+                addressBook.replaceProjects(from, removedCount, projects);
+            } else {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_LIST, list));
+            }
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RANGE, list), e);
+        }
+    }
+}
@@ -5,13 +5,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import arb.commons.core.LogsCenter;
 import arb.commons.exceptions.IllegalValueException;
 import arb.model.AddressBook;
 import arb.model.client.Name;
@@ -28,8 +26,6 @@ import arb.model.tag.Tag;
 public class JsonAdaptedProject {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Project's %s field is missing!";
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedProject.class);
-
     private final String title;
     private final String deadline;
     private final String status;
@@ -62,7 +58,6 @@ public class JsonAdaptedProject {
      * Converts a given {@code Project} into this class for Jackson use.
      */
     public JsonAdaptedProject(Project source) {
-        logger.info("Logging project: " + source);
         this.title = source.getTitle().fullTitle;
         this.deadline = Optional.ofNullable(source.getDeadline()).map(d -> d.dueDate.toString()).orElse(null);
         this.status = Boolean.toString(source.getStatus().getStatus());
@@ -92,10 +87,13 @@ public class JsonAdaptedProject {
         }
         final Title modelTitle = new Title(title);
 
-        if (deadline != null && !Deadline.isValidDeadline(deadline)) {
-            throw new IllegalValueException((Deadline.MESSAGE_CONSTRAINTS));
+        final Deadline modelDeadline;
+        if (deadline == null) {
+            modelDeadline = null;
+        } else {
+            modelDeadline = Deadline.parse(deadline)
+                    .orElseThrow(() -> new IllegalValueException(Deadline.MESSAGE_CONSTRAINTS));
         }
-        final Deadline modelDeadline = Optional.ofNullable(deadline).map(d -> new Deadline(d)).orElse(null);
 
         if (price != null && !Price.isValidPrice(price)) {
             throw new IllegalValueException((Price.MESSAGE_CONSTRAINTS));
@@ -1,5 +1,6 @@
 package arb.storage;
 
+import static arb.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
@@ -10,9 +11,10 @@ import java.util.logging.Logger;
 import arb.commons.core.LogsCenter;
 import arb.commons.exceptions.DataConversionException;
 import arb.commons.exceptions.IllegalValueException;
-import arb.commons.util.FileUtil;
 import arb.commons.util.JsonUtil;
 import arb.model.ReadOnlyAddressBook;
+import arb.model.client.Client;
+import arb.model.project.Project;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -45,20 +47,25 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return JsonAddressBookStream.readAddressBook(filePath);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Returns the Jackson-friendly address book stored at {@code filePath},
+     * or {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    protected Optional<JsonSerializableAddressBook> readJsonAddressBook(Path filePath)
+            throws DataConversionException {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +80,44 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonAddressBookStream.writeAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Saves an address book of {@code clients} and {@code projects} to {@code filePath}, one client or project
+     * at a time as they are iterated over, so that they do not all have to be held in memory.
+     * Projects may only be linked to clients in {@code clients}, and no two clients or projects may be the same,
+     * as these are not checked until the address book is read.
+     */
+    public void saveAddressBook(Iterable<Client> clients, Iterable<Project> projects, Path filePath)
+            throws IOException {
+        requireAllNonNull(clients, projects, filePath);
+
+        JsonAddressBookStream.writeAddressBook(clients, projects, filePath);
+    }
+
+    @Override
+    public Optional<PreparedSave> prepareSaveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(addressBook);
+        return Optional.of(new PreparedSave(filePath, true, () -> writeJsonAddressBook(data, filePath)));
+    }
+
+    /**
+     * Does nothing, as the address book is already saved as json.
+     */
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+    }
+
+    /**
+     * Writes the Jackson-friendly address book {@code data} to {@code filePath}.
+     */
+    protected void writeJsonAddressBook(JsonSerializableAddressBook data, Path filePath) throws IOException {
+        JsonAddressBookStream.writeAddressBook(data, filePath);
     }
 
 }
@@ -0,0 +1,152 @@
+package arb.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import arb.commons.core.LogsCenter;
+import arb.commons.core.metrics.MetricsRegistry;
+import arb.commons.exceptions.DataConversionException;
+import arb.commons.exceptions.IllegalValueException;
+import arb.commons.util.FileUtil;
+import arb.commons.util.JsonUtil;
+import arb.model.AddressBook;
+import arb.model.ReadOnlyAddressBook;
+import arb.model.client.Client;
+import arb.model.project.Project;
+
+/**
+ * Reads and writes address book json files in the format of {@link JsonSerializableAddressBook}
+ * one client or project at a time, so that neither the whole file nor a Jackson-friendly copy of the whole
+ * address book has to be held in memory.
+ */
+class JsonAddressBookStream {
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Address book data must be a json object.";
+
+    private static final String CLIENTS_FIELD = "clients";
+    private static final String PROJECTS_FIELD = "projects";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStream.class);
+
+    /**
+     * Returns the address book stored at {@code filePath}, or {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IllegalValueException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(Files.newBufferedReader(filePath, StandardCharsets.UTF_8))) {
+            return Optional.of(readAddressBook(parser));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Reads an address book from {@code parser}, converting each client and project as it is read.
+     */
+    private static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        // projects can only be added once the clients they are linked to have been added
+        List<JsonAdaptedProject> projectsBeforeClients = new ArrayList<>();
+        boolean hasReadClients = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (CLIENTS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonSerializableAddressBook.addToAddressBook(parser.readValueAs(JsonAdaptedClient.class),
+                            addressBook);
+                }
+                hasReadClients = true;
+            } else if (PROJECTS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    JsonAdaptedProject project = parser.readValueAs(JsonAdaptedProject.class);
+                    if (hasReadClients) {
+                        JsonSerializableAddressBook.addToAddressBook(project, addressBook);
+                    } else {
+                        projectsBeforeClients.add(project);
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        for (JsonAdaptedProject project : projectsBeforeClients) {
+            JsonSerializableAddressBook.addToAddressBook(project, addressBook);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath}, converting each client and project as it is written.
+     * Overwrites the existing file if it exists, creates a new file if it doesn't.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        writeAddressBook(addressBook.getClientList(), JsonAdaptedClient::new,
+                addressBook.getProjectList(), JsonAdaptedProject::new, filePath);
+    }
+
+    /**
+     * Writes an address book of {@code clients} and {@code projects} to {@code filePath}, converting each client
+     * and project as it is iterated over.
+     * Overwrites the existing file if it exists, creates a new file if it doesn't.
+     */
+    static void writeAddressBook(Iterable<Client> clients, Iterable<Project> projects, Path filePath)
+            throws IOException {
+        writeAddressBook(clients, JsonAdaptedClient::new, projects, JsonAdaptedProject::new, filePath);
+    }
+
+    /**
+     * Writes the Jackson-friendly address book {@code data} to {@code filePath}.
+     * Overwrites the existing file if it exists, creates a new file if it doesn't.
+     */
+    static void writeAddressBook(JsonSerializableAddressBook data, Path filePath) throws IOException {
+        writeAddressBook(data.getClients(), Function.identity(), data.getProjects(), Function.identity(), filePath);
+    }
+
+    private static <C, P> void writeAddressBook(Iterable<C> clients, Function<? super C, ?> clientAdapter,
+            Iterable<P> projects, Function<? super P, ?> projectAdapter, Path filePath) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        try (JsonGenerator generator =
+                JsonUtil.createGenerator(Files.newBufferedWriter(filePath, StandardCharsets.UTF_8))) {
+            generator.writeStartObject();
+            writeArrayField(generator, CLIENTS_FIELD, clients, clientAdapter);
+            writeArrayField(generator, PROJECTS_FIELD, projects, projectAdapter);
+            generator.writeEndObject();
+        }
+        MetricsRegistry.getDefault().add(MetricsRegistry.BYTES_WRITTEN_COUNT, Files.size(filePath));
+    }
+
+    private static <T> void writeArrayField(JsonGenerator generator, String fieldName, Iterable<T> elements,
+            Function<? super T, ?> adapter) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T element : elements) {
+            generator.writeObject(adapter.apply(element));
+        }
+        generator.writeEndArray();
+    }
+}
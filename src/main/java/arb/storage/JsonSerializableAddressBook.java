@@ -1,6 +1,7 @@
 package arb.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -56,21 +57,72 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         for (JsonAdaptedClient jsonAdaptedClient : clients) {
-            Client client = jsonAdaptedClient.toModelType();
-            if (addressBook.hasClient(client)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
-            }
-            addressBook.addClient(client);
+            addToAddressBook(jsonAdaptedClient, addressBook);
         }
 
         for (JsonAdaptedProject jsonAdaptedProject: projects) {
-            Project project = jsonAdaptedProject.toModelType(addressBook);
-            if (addressBook.hasProject(project)) {
-                throw new IllegalValueException((MESSAGE_DUPLICATE_PROJECT));
-            }
-            addressBook.addProject(project);
+            addToAddressBook(jsonAdaptedProject, addressBook);
         }
         return addressBook;
     }
 
+    /**
+     * Converts {@code jsonAdaptedClient} into the model's {@code Client} object and adds it to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addToAddressBook(JsonAdaptedClient jsonAdaptedClient, AddressBook addressBook)
+            throws IllegalValueException {
+        Client client = jsonAdaptedClient.toModelType();
+        if (addressBook.hasClient(client)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CLIENT);
+        }
+        addressBook.addClient(client);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedProject} into the model's {@code Project} object and adds it to
+     * {@code addressBook}, which must already contain the client linked to the project.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static void addToAddressBook(JsonAdaptedProject jsonAdaptedProject, AddressBook addressBook)
+            throws IllegalValueException {
+        Project project = jsonAdaptedProject.toModelType(addressBook);
+        if (addressBook.hasProject(project)) {
+            throw new IllegalValueException((MESSAGE_DUPLICATE_PROJECT));
+        }
+        addressBook.addProject(project);
+    }
+
+    List<JsonAdaptedClient> getClients() {
+        return Collections.unmodifiableList(clients);
+    }
+
+    List<JsonAdaptedProject> getProjects() {
+        return Collections.unmodifiableList(projects);
+    }
+
+    /**
+     * Replaces the {@code removedCount} clients starting at position {@code from} with {@code added}.
+     *
+     * @throws IndexOutOfBoundsException if there are less than {@code removedCount} clients from {@code from}.
+     */
+    void replaceClients(int from, int removedCount, List<JsonAdaptedClient> added) {
+        List<JsonAdaptedClient> replacedClients = clients.subList(from, from + removedCount);
+        replacedClients.clear();
+        replacedClients.addAll(added);
+    }
+
+    /**
+     * Replaces the {@code removedCount} projects starting at position {@code from} with {@code added}.
+     *
+     * @throws IndexOutOfBoundsException if there are less than {@code removedCount} projects from {@code from}.
+     */
+    void replaceProjects(int from, int removedCount, List<JsonAdaptedProject> added) {
+        List<JsonAdaptedProject> replacedProjects = projects.subList(from, from + removedCount);
+        replacedProjects.clear();
+        replacedProjects.addAll(added);
+    }
+
 }
@@ -0,0 +1,98 @@
+package arb.storage;
+
+import static arb.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+
+/**
+ * A save of address book data to a file that has been prepared from the data as it was at some point in time.
+ * The save does not depend on the address book it was prepared from, so it can be written later
+ * from any thread, even if the address book has been modified since.
+ */
+public class PreparedSave {
+
+    private final Path filePath;
+    private final boolean isFullSave;
+    private final Writer writer;
+
+    /**
+     * Constructs a {@code PreparedSave} of data to the address book file at {@code filePath}.
+     *
+     * @param isFullSave whether the save writes all the data of the address book, making any save to the same
+     *                   file before it unnecessary.
+     * @param writer writes the prepared data.
+     */
+    public PreparedSave(Path filePath, boolean isFullSave, Writer writer) {
+        requireAllNonNull(filePath, writer);
+        this.filePath = filePath;
+        this.isFullSave = isFullSave;
+        this.writer = writer;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Writes the prepared data to its file.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void write() throws IOException {
+        writer.write();
+    }
+
+    /**
+     * Returns true if writing this save makes writing {@code earlier}, a save prepared before this one,
+     * unnecessary.
+     */
+    public boolean supersedes(PreparedSave earlier) {
+        requireNonNull(earlier);
+        return isFullSave && filePath.equals(earlier.filePath);
+    }
+
+    /**
+     * Returns a copy of this save that runs {@code failureHandler} if writing it fails, whether with an
+     * {@code IOException} or with an unexpected {@code RuntimeException}.
+     */
+    public PreparedSave onFailure(Runnable failureHandler) {
+        requireNonNull(failureHandler);
+        return new PreparedSave(filePath, isFullSave, () -> {
+            try {
+                writer.write();
+            } catch (IOException | RuntimeException e) {
+                failureHandler.run();
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Returns a copy of this save that runs {@code writtenHandler} with the nanoseconds that writing it took,
+     * once it is written.
+     */
+    public PreparedSave onWritten(LongConsumer writtenHandler) {
+        requireNonNull(writtenHandler);
+        return new PreparedSave(filePath, isFullSave, () -> {
+            long start = System.nanoTime();
+            writer.write();
+            writtenHandler.accept(System.nanoTime() - start);
+        });
+    }
+
+    /**
+     * Writes prepared address book data.
+     */
+    @FunctionalInterface
+    public interface Writer {
+        /**
+         * Writes the data.
+         *
+         * @throws IOException if there was any problem writing to the file.
+         */
+        void write() throws IOException;
+    }
+}
@@ -3,6 +3,7 @@ package arb.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import arb.commons.exceptions.DataConversionException;
 import arb.model.ReadOnlyAddressBook;
@@ -29,4 +30,20 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns the number of address book saves skipped because the address book had not been modified
+     * since it was last saved.
+     */
+    int getSkippedSaveCount();
+
+    /**
+     * Blocks until all address book saves requested so far have been written.
+     */
+    void flush();
+
+    /**
+     * Sets the handler to notify of address book saves that fail after the method requesting them has returned.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
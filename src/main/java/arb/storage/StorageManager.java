@@ -3,9 +3,11 @@ package arb.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import arb.commons.core.LogsCenter;
+import arb.commons.core.metrics.MetricsRegistry;
 import arb.commons.exceptions.DataConversionException;
 import arb.model.ReadOnlyAddressBook;
 import arb.model.ReadOnlyUserPrefs;
@@ -20,6 +22,11 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private ReadOnlyAddressBook lastSavedAddressBook;
+    private Path lastSavedFilePath;
+    private long lastSavedModificationCount;
+    private int skippedSaveCount;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
@@ -71,8 +78,85 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        if (isSaved(addressBook, filePath)) {
+            skipSave(filePath);
+            return;
+        }
+
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        long start = System.nanoTime();
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        recordWrite(System.nanoTime() - start);
+        recordSave(addressBook, filePath);
+    }
+
+    @Override
+    public Optional<PreparedSave> prepareSaveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        if (isSaved(addressBook, filePath)) {
+            skipSave(filePath);
+            return Optional.empty();
+        }
+
+        logger.fine(() -> "Preparing to write to data file: " + filePath);
+        Optional<PreparedSave> save = addressBookStorage.prepareSaveAddressBook(addressBook, filePath);
+        recordSave(addressBook, filePath);
+        return save.map(s -> s.onFailure(this::forgetLastSave).onWritten(this::recordWrite));
+    }
+
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Attempting to export the address book");
+        addressBookStorage.exportAddressBook(addressBook);
+    }
+
+    /**
+     * Returns true if {@code addressBook} was last saved at {@code filePath} and has not been
+     * modified since.
+     */
+    private synchronized boolean isSaved(ReadOnlyAddressBook addressBook, Path filePath) {
+        return addressBook == lastSavedAddressBook
+                && filePath.equals(lastSavedFilePath)
+                && addressBook.getModificationCount() == lastSavedModificationCount;
+    }
+
+    private void skipSave(Path filePath) {
+        skippedSaveCount++;
+        MetricsRegistry.getDefault().increment(MetricsRegistry.SKIPPED_SAVE_COUNT);
+        logger.fine(() -> "Skipping write of unmodified data to file: " + filePath
+                + " (" + skippedSaveCount + " writes skipped)");
+    }
+
+    private void recordWrite(long nanos) {
+        MetricsRegistry.getDefault().increment(MetricsRegistry.SAVE_COUNT);
+        MetricsRegistry.getDefault().recordLatency(MetricsRegistry.WRITE_LATENCY, nanos);
     }
 
+    private synchronized void recordSave(ReadOnlyAddressBook addressBook, Path filePath) {
+        lastSavedAddressBook = addressBook;
+        lastSavedFilePath = filePath;
+        lastSavedModificationCount = addressBook.getModificationCount();
+    }
+
+    private synchronized void forgetLastSave() {
+        lastSavedAddressBook = null;
+        lastSavedFilePath = null;
+    }
+
+    @Override
+    public int getSkippedSaveCount() {
+        return skippedSaveCount;
+    }
+
+    /**
+     * Does nothing, as the saves of a {@code StorageManager} are written before they return.
+     */
+    @Override
+    public void flush() {}
+
+    /**
+     * Does nothing, as the saves of a {@code StorageManager} report their failures by throwing.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {}
+
 }
@@ -0,0 +1,182 @@
+package arb.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import arb.commons.core.LogsCenter;
+import arb.commons.exceptions.DataConversionException;
+import arb.commons.util.StringUtil;
+import arb.model.ReadOnlyAddressBook;
+import arb.model.ReadOnlyUserPrefs;
+import arb.model.UserPrefs;
+
+/**
+ * A {@code Storage} that writes address book saves on a background thread.
+ *
+ * Saving an address book only prepares the save from the current data on the calling thread, and returns
+ * before the save is written. Saves are written in the order they were requested, except that a save that
+ * replaces all the data in a file also replaces any earlier saves to the same file that have not been
+ * written yet, so that a burst of saves results in one write.
+ * Failures of saves written in the background are reported to the save failure handler.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address book writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Deque<PreparedSave> queuedSaves = new ArrayDeque<>();
+
+    private boolean isWriting;
+    private volatile Consumer<IOException> saveFailureHandler = ioe -> {};
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes the address book saves of {@code storage}
+     * in the background.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Prepares a save of {@code addressBook} at {@code filePath} and queues it to be written in the background.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        prepareSaveAddressBook(addressBook, filePath).ifPresent(this::queue);
+    }
+
+    @Override
+    public Optional<PreparedSave> prepareSaveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        return storage.prepareSaveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Exports {@code addressBook} once the saves queued before it have been written.
+     */
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        flush();
+        storage.exportAddressBook(addressBook);
+    }
+
+    @Override
+    public int getSkippedSaveCount() {
+        return storage.getSkippedSaveCount();
+    }
+
+    @Override
+    public synchronized void flush() {
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException ie) {
+                logger.warning("Interrupted while waiting for saves to be written");
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Queues {@code save} to be written after the saves queued before it, in place of any queued saves
+     * that it supersedes.
+     */
+    private synchronized void queue(PreparedSave save) {
+        queuedSaves.removeIf(save::supersedes);
+        queuedSaves.add(save);
+        if (!isWriting) {
+            isWriting = true;
+            writer.execute(this::writeQueuedSaves);
+        }
+    }
+
+    /**
+     * Writes the queued saves until there are none left.
+     */
+    private void writeQueuedSaves() {
+        while (true) {
+            PreparedSave save;
+            synchronized (this) {
+                save = queuedSaves.poll();
+                if (save == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                save.write();
+            } catch (IOException ioe) {
+                logger.warning("Failed to write data to file: " + save.getFilePath() + " "
+                        + StringUtil.getDetails(ioe));
+                saveFailureHandler.accept(ioe);
+            } catch (RuntimeException re) {
+                logger.severe("Failed to write data to file: " + save.getFilePath() + " "
+                        + StringUtil.getDetails(re));
+                saveFailureHandler.accept(new IOException(re));
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.logging.Logger;
 
 import arb.commons.core.GuiSettings;
 import arb.commons.core.LogsCenter;
+import arb.commons.core.metrics.MetricsRegistry;
 import arb.logic.Logic;
 import arb.logic.commands.CommandResult;
 import arb.logic.commands.exceptions.CommandException;
@@ -13,6 +14,7 @@ import arb.storage.JsonStorageState;
 import arb.ui.client.ClientListPanel;
 import arb.ui.project.ProjectListPanel;
 import arb.ui.tag.TagMappingListPanel;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -131,6 +133,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         listLabel.prefWidth(primaryStage.getWidth());
         listLabel.setFont(new Font(24));
@@ -261,7 +264,8 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            long executed = System.nanoTime();
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -274,12 +278,14 @@ public class MainWindow extends UiPart<Stage> {
 
             logic.setLinkMode(commandResult.shouldEnterLinkMode());
 
-            logger.info("Display " + commandResult.getListToBeShown() + " list.");
+            logger.info(() -> "Display " + commandResult.getListToBeShown() + " list.");
             setCurrentlyShownList(commandResult.getListToBeShown());
+            MetricsRegistry.getDefault().recordLatency(MetricsRegistry.UI_REFRESH_LATENCY,
+                    System.nanoTime() - executed);
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
+            logger.info(() -> "Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
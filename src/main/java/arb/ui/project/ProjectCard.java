@@ -72,8 +72,9 @@ public class ProjectCard extends UiPart<Region> {
             contentsPane.getChildren().remove(forClient);
         }
 
-        status.setText("Status: " + (project.isOverdue() ? "OVERDUE" : project.getStatus().toString()));
-        if (project.isOverdue()) {
+        boolean isOverdue = project.isOverdue();
+        status.setText("Status: " + (isOverdue ? "OVERDUE" : project.getStatus().toString()));
+        if (isOverdue) {
             status.setStyle("-fx-text-fill: #8112db;");
         }
 
@@ -1,6 +1,8 @@
 package arb;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -37,6 +39,23 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchScript_success() {
+        parametersStub.namedParameters.put("batch", "maintenance.txt");
+        expected.setBatchScript("maintenance.txt");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertTrue(expected.isBatchMode());
+    }
+
+    @Test
+    public void parse_args_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchScript(AppParameters.STANDARD_INPUT);
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--batch=-", "--other"}));
+
+        assertFalse(AppParameters.parse(new String[] {"--batch"}).isBatchMode());
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -11,7 +11,10 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Address book format : JSON\n"
+                + "Metrics file location : null\n"
+                + "Metrics dump interval in seconds : 60";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,21 @@
+package arb.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class LogsCenterTest {
+
+    @Test
+    public void getLogger_sameName_configuredOnce() {
+        Logger logger = LogsCenter.getLogger(LogsCenterTest.class);
+        assertSame(logger, LogsCenter.getLogger(LogsCenterTest.class));
+        assertSame(logger, LogsCenter.getLogger(LogsCenterTest.class.getSimpleName()));
+        assertEquals(1, logger.getHandlers().length);
+        assertFalse(logger.getUseParentHandlers());
+    }
+}
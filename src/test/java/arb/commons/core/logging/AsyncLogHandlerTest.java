@@ -0,0 +1,119 @@
+package arb.commons.core.logging;
+
+import static arb.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(0, new RecordingHandler()));
+    }
+
+    @Test
+    public void publish_writesRecordsInOrder() {
+        RecordingHandler handler = new RecordingHandler();
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(128, handler);
+        List<String> expectedMessages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            expectedMessages.add("message " + i);
+            asyncHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        asyncHandler.flush();
+
+        assertEquals(0, asyncHandler.getDroppedCount());
+        assertEquals(expectedMessages, handler.getMessages());
+    }
+
+    @Test
+    public void publish_bufferFull_dropsRecordsAndReportsThem() throws Exception {
+        CountDownLatch isWriting = new CountDownLatch(1);
+        CountDownLatch canWrite = new CountDownLatch(1);
+        RecordingHandler handler = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                isWriting.countDown();
+                try {
+                    canWrite.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(2, handler);
+        asyncHandler.publish(new LogRecord(Level.INFO, "first"));
+        isWriting.await();
+        // the first record is being written, so two more fill the buffer and the rest are dropped
+        for (int i = 0; i < 5; i++) {
+            asyncHandler.publish(new LogRecord(Level.INFO, "later"));
+        }
+        assertEquals(3, asyncHandler.getDroppedCount());
+
+        canWrite.countDown();
+        asyncHandler.flush();
+        List<String> messages = handler.getMessages();
+        assertEquals(4, messages.size());
+        assertEquals("first", messages.get(0));
+        assertTrue(messages.get(1).startsWith("Dropped 3 log records"));
+    }
+
+    @Test
+    public void publish_belowLevel_notWritten() {
+        RecordingHandler handler = new RecordingHandler();
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(16, handler);
+        asyncHandler.setLevel(Level.INFO);
+        asyncHandler.publish(new LogRecord(Level.FINE, "fine"));
+        asyncHandler.publish(new LogRecord(Level.INFO, "info"));
+        asyncHandler.flush();
+        assertEquals(List.of("info"), handler.getMessages());
+    }
+
+    @Test
+    public void close_writesQueuedRecordsAndClosesHandlers() {
+        RecordingHandler handler = new RecordingHandler();
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(16, handler);
+        asyncHandler.publish(new LogRecord(Level.INFO, "before"));
+        asyncHandler.close();
+        asyncHandler.publish(new LogRecord(Level.INFO, "after"));
+
+        assertEquals(List.of("before"), handler.getMessages());
+        assertTrue(handler.isClosed);
+    }
+
+    /**
+     * A handler that keeps the messages of the records published to it.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private boolean isClosed;
+
+        @Override
+        public synchronized void publish(LogRecord record) {
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        synchronized List<String> getMessages() {
+            return new ArrayList<>(messages);
+        }
+    }
+}
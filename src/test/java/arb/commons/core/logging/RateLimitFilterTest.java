@@ -0,0 +1,50 @@
+package arb.commons.core.logging;
+
+import static arb.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+public class RateLimitFilterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final RateLimitFilter filter = new RateLimitFilter(2, now::get);
+
+    @Test
+    public void constructor_invalidRate_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitFilter(0));
+    }
+
+    @Test
+    public void isLoggable_overRate_suppressedUntilNextSecond() {
+        assertTrue(filter.isLoggable(new LogRecord(Level.INFO, "1")));
+        assertTrue(filter.isLoggable(new LogRecord(Level.INFO, "2")));
+        assertFalse(filter.isLoggable(new LogRecord(Level.INFO, "3")));
+        assertFalse(filter.isLoggable(new LogRecord(Level.FINE, "4")));
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        LogRecord record = new LogRecord(Level.INFO, "5");
+        assertTrue(filter.isLoggable(record));
+        assertEquals("5 (2 earlier records suppressed)", record.getMessage());
+
+        LogRecord nextRecord = new LogRecord(Level.INFO, "6");
+        assertTrue(filter.isLoggable(nextRecord));
+        assertEquals("6", nextRecord.getMessage());
+    }
+
+    @Test
+    public void isLoggable_warnings_neverSuppressed() {
+        filter.isLoggable(new LogRecord(Level.INFO, "1"));
+        filter.isLoggable(new LogRecord(Level.INFO, "2"));
+        assertTrue(filter.isLoggable(new LogRecord(Level.WARNING, "3")));
+        assertTrue(filter.isLoggable(new LogRecord(Level.SEVERE, "4")));
+        assertFalse(filter.isLoggable(new LogRecord(Level.INFO, "5")));
+    }
+}
@@ -0,0 +1,65 @@
+package arb.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getPercentile_noLatencies_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_smallLatencies_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 20; nanos++) {
+            histogram.record(nanos);
+        }
+        assertEquals(20, histogram.getCount());
+        assertEquals(10, histogram.getPercentile(50));
+        assertEquals(18, histogram.getPercentile(90));
+        assertEquals(20, histogram.getPercentile(100));
+        assertEquals(20, histogram.getMax());
+        assertEquals(10.5, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_largeLatencies_withinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 500_000_000L && median <= 500_000_000L * 107 / 100, "median was " + median);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p99 >= 990_000_000L && p99 <= 1_000_000_000L, "p99 was " + p99);
+        assertEquals(1_000_000_000L, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void record_negativeLatency_recordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void getBucketIndex_highestValueOfBucket_inSameBucket() {
+        for (long latency : new long[] {0, 1, 31, 32, 33, 47, 48, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.getBucketIndex(latency);
+            long highest = LatencyHistogram.getHighestValue(index);
+            assertTrue(highest >= latency, latency + " is above the highest value of its bucket " + highest);
+            assertEquals(index, LatencyHistogram.getBucketIndex(highest));
+            if (highest < Long.MAX_VALUE) {
+                assertEquals(index + 1, LatencyHistogram.getBucketIndex(highest + 1));
+            }
+        }
+    }
+}
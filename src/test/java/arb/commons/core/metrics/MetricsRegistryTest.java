@@ -0,0 +1,49 @@
+package arb.commons.core.metrics;
+
+import static arb.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class MetricsRegistryTest {
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    public void getHistogram_sameName_returnsSameHistogram() {
+        assertSame(registry.getHistogram("a"), registry.getHistogram("a"));
+        assertThrows(NullPointerException.class, () -> registry.getHistogram(null));
+    }
+
+    @Test
+    public void recordLatency_recordedInNamedHistogram() {
+        registry.recordLatency("a", 10);
+        registry.recordLatency("a", 20);
+        registry.recordLatency("b", 30);
+        assertEquals(2, registry.getHistogram("a").getCount());
+        assertEquals(1, registry.getHistogram("b").getCount());
+    }
+
+    @Test
+    public void add_countersAddUp() {
+        assertEquals(0, registry.getCount("saves"));
+        registry.increment("saves");
+        registry.add("saves", 4);
+        registry.add("bytes", 100);
+        assertEquals(5, registry.getCount("saves"));
+        assertEquals(100, registry.getCount("bytes"));
+    }
+
+    @Test
+    public void format_listsMetricsInOrderOfName() {
+        registry.recordLatency("phase.save", 2_000_000);
+        registry.recordLatency("command.list", 1_500_000);
+        registry.add("storage.bytes-written", 1234);
+        String formatted = registry.format();
+        assertTrue(formatted.indexOf("command.list") < formatted.indexOf("phase.save"), formatted);
+        assertTrue(formatted.contains("2.000"), formatted);
+        assertTrue(formatted.contains("1234"), formatted);
+    }
+}
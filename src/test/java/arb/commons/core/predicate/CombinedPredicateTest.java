@@ -1,14 +1,24 @@
 package arb.commons.core.predicate;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import arb.model.client.Client;
 import arb.model.client.predicates.NameContainsKeywordsPredicate;
+import arb.model.project.Deadline;
+import arb.model.project.Project;
+import arb.model.project.Status;
+import arb.model.project.predicates.IsOfStatusPredicate;
+import arb.model.project.predicates.ProjectContainsTagsPredicate;
+import arb.model.project.predicates.ProjectWithinTimeframePredicate;
+import arb.model.project.predicates.TitleContainsKeywordsPredicate;
 import arb.testutil.PredicateUtil;
 
 public class CombinedPredicateTest {
@@ -42,4 +52,46 @@ public class CombinedPredicateTest {
                 PredicateUtil.getCombinedPredicate(secondNamePredicate);
         assertTrue(firstClientCombinedPredicate.equals(secondClientCombinedPredicate));
     }
+
+    @Test
+    public void getPlan_estimablePredicates_cheapestPerItemRuledOutFirst() {
+        Predicate<Project> keywords = new TitleContainsKeywordsPredicate(List.of("oil", "sky"));
+        Predicate<Project> status = new IsOfStatusPredicate(new Status(true));
+        Predicate<Project> tags = new ProjectContainsTagsPredicate(List.of("painting"));
+        Predicate<Project> timeframe = new ProjectWithinTimeframePredicate(new Deadline("2023-03-01T00:00"),
+                new Deadline("2023-03-31T23:59"));
+        Predicate<Project> other = project -> true;
+
+        CombinedPredicate<Project> combinedPredicate = new CombinedPredicate<>(
+                List.of(keywords, other, timeframe, status, tags));
+        assertEquals(List.of(tags, status, timeframe, keywords, other), combinedPredicate.getPlan());
+        assertTrue(combinedPredicate.explain().startsWith("Test [" + tags + "] (cost 1.0, passes 20%), then ["
+                + status + "] (cost 1.0, passes 50%), then"));
+    }
+
+    @Test
+    public void test_failingPredicate_laterPredicatesNotTested() {
+        List<String> tested = new ArrayList<>();
+        Predicate<String> expensive = s -> tested.add("expensive");
+        EstimablePredicate<String> cheap = new EstimablePredicate<String>() {
+            @Override
+            public double getEstimatedCost() {
+                return 1;
+            }
+
+            @Override
+            public double getEstimatedSelectivity() {
+                return 0.1;
+            }
+
+            @Override
+            public boolean test(String s) {
+                tested.add("cheap");
+                return false;
+            }
+        };
+
+        assertFalse(new CombinedPredicate<>(List.of(expensive, cheap)).test("item"));
+        assertEquals(List.of("cheap"), tested);
+    }
 }
@@ -2,6 +2,7 @@ package arb.commons.util;
 
 import static arb.commons.util.CollectionUtil.requireAllNonNull;
 import static arb.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -9,6 +10,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -88,6 +91,25 @@ public class CollectionUtilTest {
                 .keywordsToString(Arrays.asList("first", "second", "third"))));
     }
 
+    @Test
+    public void findDuplicates() {
+        assertThrows(NullPointerException.class, () -> CollectionUtil.findDuplicates(null, s -> s));
+        assertTrue(CollectionUtil.findDuplicates(Collections.emptyList(), s -> s).isEmpty());
+        assertTrue(CollectionUtil.findDuplicates(Arrays.asList("a", "b", "c"), s -> s).isEmpty());
+
+        // only the later occurrences of a key are reported
+        assertEquals(Arrays.asList("A", "b"),
+                CollectionUtil.findDuplicates(Arrays.asList("a", "A", "b", "c", "b"), String::toLowerCase));
+    }
+
+    @Test
+    public void findDuplicates_manyDuplicates_reportsEachLaterOccurrenceInOrder() {
+        List<Integer> items = IntStream.range(0, 1_000).boxed().collect(Collectors.toList());
+        List<Integer> expectedDuplicates = IntStream.range(0, 1_000).filter(i -> i % 2 == 1).boxed()
+                .collect(Collectors.toList());
+        assertEquals(expectedDuplicates, CollectionUtil.findDuplicates(items, i -> i / 2));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -1,13 +1,21 @@
 package arb.commons.util;
 
 import static arb.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,13 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_returnsBytesWritten() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        assertEquals(5, FileUtil.writeToFile(file, "hello"));
+        // non-ASCII characters take more than one byte
+        assertEquals(3, FileUtil.appendToFile(file, "\u00e9!"));
+        assertEquals(8, Files.size(file));
+    }
+
 }
@@ -1,6 +1,7 @@
 package arb.commons.util;
 
 import static arb.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -157,6 +158,46 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toLowerCaseWords and containsWord --------------------------------------
+
+    @Test
+    public void toLowerCaseWords() {
+        assertEquals(List.of(), Arrays.asList(StringUtil.toLowerCaseWords("   ")));
+        assertEquals(List.of("abc", "def", "ghi"), Arrays.asList(StringUtil.toLowerCaseWords(" ABc  def\tGHI ")));
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCaseWords(null));
+    }
+
+    @Test
+    public void toLowerCaseWord() {
+        assertEquals("abc", StringUtil.toLowerCaseWord("  aBC "));
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCaseWord(null));
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.toLowerCaseWord("  "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.toLowerCaseWord("aaa bbb"));
+    }
+
+    @Test
+    public void toLowerCase_sameAsEqualsIgnoreCase() {
+        // characters whose lower case form depends on the upper case form, or on the locale
+        String[][] pairs = {{"\u0130", "i"}, {"\u03a3", "\u03c2"}, {"\u212a", "k"}, {"\u00df", "ss"}, {"ABC", "abc"}};
+        for (String[] pair : pairs) {
+            assertEquals(pair[0].equalsIgnoreCase(pair[1]),
+                    StringUtil.toLowerCase(pair[0]).equals(StringUtil.toLowerCase(pair[1])));
+            assertEquals(StringUtil.containsWordIgnoreCase(pair[0], pair[1]),
+                    StringUtil.containsWord(StringUtil.toLowerCaseWords(pair[0]), StringUtil.toLowerCaseWord(pair[1])));
+        }
+    }
+
+    @Test
+    public void containsWord_sameAsContainsWordIgnoreCase() {
+        String[] words = StringUtil.toLowerCaseWords("AAA bBb ccc  bbb");
+        assertTrue(StringUtil.containsWord(words, "aaa"));
+        assertTrue(StringUtil.containsWord(words, "bbb"));
+        assertFalse(StringUtil.containsWord(words, "bb"));
+        assertFalse(StringUtil.containsWord(StringUtil.toLowerCaseWords(""), "aaa"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
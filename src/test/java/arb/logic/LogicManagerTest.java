@@ -17,6 +17,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import arb.commons.core.metrics.MetricsRegistry;
 import arb.logic.commands.CommandResult;
 import arb.logic.commands.client.AddClientCommand;
 import arb.logic.commands.client.ListClientCommand;
@@ -39,6 +40,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -46,7 +48,7 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("arb.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -69,6 +71,32 @@ public class LogicManagerTest {
         assertCommandSuccess(listClientCommand, ListClientCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommands_skipsSaves() throws Exception {
+        String listClientCommand = ListClientCommand.getCommandWords().iterator().next();
+        logic.execute(listClientCommand);
+        logic.execute(listClientCommand);
+        logic.execute(listClientCommand);
+        assertEquals(2, storage.getSkippedSaveCount());
+    }
+
+    @Test
+    public void execute_recordsLatencies() throws Exception {
+        MetricsRegistry metrics = new MetricsRegistry();
+        logic = new LogicManager(model, storage, metrics);
+        String listClientCommand = ListClientCommand.getCommandWords().iterator().next();
+        logic.execute(listClientCommand + " 3");
+        logic.execute(listClientCommand.toUpperCase());
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        assertEquals(2, metrics.getHistogram(MetricsRegistry.COMMAND_LATENCY_PREFIX + listClientCommand).getCount());
+        assertEquals(1, metrics.getHistogram(
+                MetricsRegistry.COMMAND_LATENCY_PREFIX + LogicManager.INVALID_COMMAND_TYPE).getCount());
+        assertEquals(2, metrics.getHistogram(MetricsRegistry.PARSE_LATENCY).getCount());
+        assertEquals(2, metrics.getHistogram(MetricsRegistry.EXECUTE_LATENCY).getCount());
+        assertEquals(2, metrics.getHistogram(MetricsRegistry.SAVE_LATENCY).getCount());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
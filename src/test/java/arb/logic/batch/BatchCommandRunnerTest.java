@@ -0,0 +1,91 @@
+package arb.logic.batch;
+
+import static arb.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import arb.logic.Logic;
+import arb.logic.LogicManager;
+import arb.model.Model;
+import arb.model.ModelManager;
+import arb.model.project.Project;
+import arb.storage.JsonAddressBookStorage;
+import arb.storage.JsonUserPrefsStorage;
+import arb.storage.StorageManager;
+
+public class BatchCommandRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+    private BatchCommandRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("arb.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Logic logic = new LogicManager(model, storage);
+        runner = new BatchCommandRunner(logic, new PrintStream(errors, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BatchCommandRunner(null, System.err));
+    }
+
+    @Test
+    public void run_script_commandsRunUntilExit() throws Exception {
+        BatchReport report = run("# set up clients",
+                "add-client name/Alice Tan phone/91234567",
+                "  ",
+                "ac name/Bob Lee",
+                "add-project name/Mural client/Alice",
+                "1",
+                "list-project",
+                "delete-client 99",
+                "exit",
+                "add-client name/Never Run");
+
+        assertEquals(2, model.getAddressBook().getClientList().size());
+        Project mural = model.getAddressBook().getProjectList().get(0);
+        assertEquals("Alice Tan", mural.getClientName());
+
+        assertEquals(7, report.getCommandCount());
+        assertEquals(1, report.getFailureCount());
+        assertTrue(errors.toString(StandardCharsets.UTF_8).startsWith("Line 8: delete-client 99"));
+
+        List<String> commandTypes = new ArrayList<>();
+        report.getCommandTypes().forEach(commandTypes::add);
+        assertEquals(List.of(BatchCommandRunner.LINK_MODE_COMMAND_TYPE, "ac", "add-client", "add-project",
+                "delete-client", "exit", "list-project"), commandTypes);
+        assertEquals(1, report.getCommandCount("add-client"));
+        assertTrue(report.getCommandsPerSecond() > 0);
+        assertTrue(report.format().contains("Ran 7 commands (1 failed)"));
+    }
+
+    @Test
+    public void run_emptyScript_noCommands() throws Exception {
+        BatchReport report = run();
+        assertEquals(0, report.getCommandCount());
+        assertEquals(0, report.getFailureCount());
+    }
+
+    private BatchReport run(String... lines) throws Exception {
+        return runner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+}
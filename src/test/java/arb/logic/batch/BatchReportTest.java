@@ -0,0 +1,37 @@
+package arb.logic.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchReportTest {
+
+    @Test
+    public void getPercentile_nearestRank() {
+        BatchReport report = new BatchReport();
+        for (int i = 100; i >= 1; i--) {
+            report.record("list", i, true);
+        }
+        report.record("exit", 7, true);
+
+        assertEquals(1, report.getPercentile("list", 0));
+        assertEquals(50, report.getPercentile("list", 50));
+        assertEquals(90, report.getPercentile("list", 90));
+        assertEquals(99, report.getPercentile("list", 99));
+        assertEquals(100, report.getPercentile("list", 100));
+        assertEquals(7, report.getPercentile("exit", 50));
+        assertEquals(101, report.getCommandCount());
+    }
+
+    @Test
+    public void getCommandsPerSecond() {
+        BatchReport report = new BatchReport();
+        assertEquals(0, report.getCommandsPerSecond());
+
+        report.record("list", 1, true);
+        report.record("list", 1, false);
+        report.setElapsedNanos(500_000_000);
+        assertEquals(4, report.getCommandsPerSecond());
+        assertEquals(1, report.getFailureCount());
+    }
+}
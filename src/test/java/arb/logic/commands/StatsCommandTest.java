@@ -0,0 +1,25 @@
+package arb.logic.commands;
+
+import static arb.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import arb.commons.core.metrics.MetricsRegistry;
+import arb.model.ListType;
+import arb.model.Model;
+import arb.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_showsMetrics() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        metrics.recordLatency(MetricsRegistry.COMMAND_LATENCY_PREFIX + "list-client", 1_000_000);
+        metrics.increment(MetricsRegistry.SAVE_COUNT);
+        CommandResult expectedCommandResult = new CommandResult(metrics.format(), ListType.NONE);
+        assertCommandSuccess(new StatsCommand(metrics), ListType.CLIENT, ListType.NONE, model,
+                expectedCommandResult, expectedModel);
+    }
+}
@@ -250,6 +250,11 @@ public class AddClientCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public String explainFilteredProjectList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateSortedClientList(Comparator<Client> comparator) {
             throw new AssertionError("This method should not be called.");
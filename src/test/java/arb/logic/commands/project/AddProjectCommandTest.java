@@ -259,6 +259,11 @@ public class AddProjectCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public String explainFilteredProjectList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateSortedClientList(Comparator<Client> comparator) {
             throw new AssertionError("This method should not be called.");
@@ -56,6 +56,9 @@ public class FindProjectCommandTest {
 
         // different project -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // explained -> returns false
+        assertFalse(findFirstCommand.equals(new FindProjectCommand(firstPredicate, true)));
     }
 
     @Test
@@ -83,4 +86,20 @@ public class FindProjectCommandTest {
         assertEquals(Arrays.asList(CRAYON_PROJECT, DIGITAL_PROJECT, SCULPTURE_PROJECT), model.getFilteredProjectList());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void execute_explained_planShown() {
+        TitleContainsKeywordsPredicate predicate =
+                PredicateUtil.getTitleContainsKeywordsPredicate("Crayon", "Digital", "Sculpture");
+        CombinedPredicate<Project> finalPredicate = PredicateUtil.getCombinedPredicate(predicate);
+        FindProjectCommand command = new FindProjectCommand(finalPredicate, true);
+        expectedModel.updateFilteredProjectList(finalPredicate);
+        String plan = expectedModel.explainFilteredProjectList();
+        String expectedMessage = String.format(MESSAGE_PROJECTS_LISTED_OVERVIEW, 3) + "\n" + finalPredicate
+                + "\n" + String.format(FindProjectCommand.MESSAGE_PLAN, plan);
+        assertCommandSuccess(command, ListType.PROJECT, ListType.PROJECT, model, expectedMessage, expectedModel);
+        // the title keywords are looked up in the index of titles
+        assertTrue(plan.startsWith("Look up"));
+    }
+
 }
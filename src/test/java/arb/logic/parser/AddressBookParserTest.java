@@ -20,6 +20,7 @@ import arb.commons.core.predicate.CombinedPredicate;
 import arb.logic.commands.CommandTestUtil;
 import arb.logic.commands.ExitCommand;
 import arb.logic.commands.HelpCommand;
+import arb.logic.commands.StatsCommand;
 import arb.logic.commands.client.AddClientCommand;
 import arb.logic.commands.client.ClearClientCommand;
 import arb.logic.commands.client.DeleteClientCommand;
@@ -207,6 +208,14 @@ public class AddressBookParserTest {
         }
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        for (String commandWord : StatsCommand.getCommandWords()) {
+            assertTrue(parser.parseCommand(commandWord) instanceof StatsCommand);
+            assertTrue(parser.parseCommand(commandWord + " 3") instanceof StatsCommand);
+        }
+    }
+
     @Test
     public void parseCommand_listClient() throws Exception {
         for (String commandWord : ListClientCommand.getCommandWords()) {
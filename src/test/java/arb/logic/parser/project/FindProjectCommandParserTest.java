@@ -53,4 +53,18 @@ public class FindProjectCommandParserTest {
                 expectedFindProjectCommand);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void parse_explain_returnsExplainedFindProjectCommand() {
+        CombinedPredicate<Project> expectedCombinedPredicate =
+                PredicateUtil.getCombinedPredicate(PredicateUtil.getTitleContainsKeywordsPredicate("Sky"));
+        FindProjectCommand expectedFindProjectCommand = new FindProjectCommand(expectedCombinedPredicate, true);
+        assertParseSuccess(parser, " n/Sky explain/", expectedFindProjectCommand);
+        assertParseSuccess(parser, " ex/ n/Sky", expectedFindProjectCommand);
+
+        // explain/ alone is not something to find projects by
+        assertParseFailure(parser, " explain/",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindProjectCommand.MESSAGE_USAGE));
+    }
+
 }
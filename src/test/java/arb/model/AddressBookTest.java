@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -134,6 +135,43 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getTagMappingList().remove(0));
     }
 
+    @Test
+    public void getModificationCount() {
+        long modificationCount = addressBook.getModificationCount();
+
+        // read-only operations -> count unchanged
+        addressBook.hasClient(ALICE);
+        addressBook.noProjectSize();
+        assertEquals(modificationCount, addressBook.getModificationCount());
+
+        // modifications -> count changed
+        addressBook.addClient(ALICE);
+        assertTrue(modificationCount != addressBook.getModificationCount());
+        modificationCount = addressBook.getModificationCount();
+        addressBook.addProject(new ProjectBuilder(SKY_PAINTING).build());
+        assertTrue(modificationCount != addressBook.getModificationCount());
+    }
+
+    @Test
+    public void unlinkClientFromProject_projectMarkedAsDoneAfterLinking_statisticsKeptUpToDate() {
+        Client client = new ClientBuilder(ALICE).build();
+        Project project = new ProjectBuilder(SKY_PAINTING).withDeadline("2000-01-01T12:00").withPrice("10.00")
+                .build();
+        addressBook.addClient(client);
+        // linked as when loading, before the project is added
+        addressBook.linkProjectToClient(client.getName(), project);
+        addressBook.addProject(project);
+        addressBook.markProjectAsDone(project);
+        assertEquals(new BigDecimal("10.00"), addressBook.getRevenueByClient().get(client.getName()).getTotal());
+
+        addressBook.unlinkClientFromProject(project);
+        assertEquals(0, client.getNumberOfProjectsLinked());
+        assertEquals(1, addressBook.noDoneProjects());
+        assertEquals(0, addressBook.noOverdueProjects());
+        assertTrue(addressBook.getRevenueByClient().isEmpty());
+        assertEquals(new BigDecimal("10.00"), addressBook.getRevenue().getTotal());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose clients list and projects list can violate interface constraints.
      */
@@ -162,6 +200,11 @@ public class AddressBookTest {
         public ObservableList<TagMapping> getTagMappingList() {
             return tagMappings;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
     }
 
 }
@@ -16,13 +16,28 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import arb.commons.core.GuiSettings;
+import arb.commons.core.predicate.CombinedPredicate;
+import arb.model.client.Client;
+import arb.model.client.predicates.ClientContainsTagsPredicate;
 import arb.model.client.predicates.NameContainsKeywordsPredicate;
+import arb.model.project.Deadline;
+import arb.model.project.Project;
+import arb.model.project.predicates.LinkedClientNameContainsKeywordsPredicate;
+import arb.model.project.predicates.ProjectContainsTagsPredicate;
+import arb.model.project.predicates.ProjectWithinTimeframePredicate;
+import arb.model.project.predicates.TitleContainsKeywordsPredicate;
 import arb.testutil.AddressBookBuilder;
+import arb.testutil.ClientBuilder;
+import arb.testutil.ProjectBuilder;
+import javafx.collections.ListChangeListener;
 
 public class ModelManagerTest {
 
@@ -186,4 +201,122 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void updateFilteredProjectList_timeframePredicate_filtersByTimeframe() {
+        Project march = new ProjectBuilder().withTitle("March Painting").withDeadline("2023-03-15T12:00").build();
+        Project april = new ProjectBuilder().withTitle("April Painting").withDeadline("2023-04-15T12:00").build();
+        Project sketch = new ProjectBuilder().withTitle("Sketch").withDeadline("2023-05-20T12:00").build();
+        Project noDeadline = new ProjectBuilder().withTitle("Painting").withDeadline(null).build();
+        modelManager.addProject(march);
+        modelManager.addProject(april);
+        modelManager.addProject(sketch);
+        modelManager.addProject(noDeadline);
+
+        ProjectWithinTimeframePredicate inMarch = new ProjectWithinTimeframePredicate(
+                new Deadline("2023-03-01T00:00"), new Deadline("2023-03-31T23:59"));
+        modelManager.updateFilteredProjectList(inMarch);
+        assertEquals(List.of(march), modelManager.getFilteredProjectList());
+
+        // projects edited after filtering are filtered too
+        Project marchSketch = new ProjectBuilder(sketch).withDeadline("2023-03-20T12:00").build();
+        modelManager.setProject(sketch, marchSketch);
+        assertEquals(List.of(march, marchSketch), modelManager.getFilteredProjectList());
+
+        // combined with other predicates
+        List<Predicate<Project>> predicates = List.of(inMarch, new TitleContainsKeywordsPredicate(List.of("sketch")));
+        modelManager.updateFilteredProjectList(new CombinedPredicate<>(predicates));
+        assertEquals(List.of(marchSketch), modelManager.getFilteredProjectList());
+
+        // open-ended timeframe
+        modelManager.updateFilteredProjectList(
+                new ProjectWithinTimeframePredicate(new Deadline("2023-03-16T00:00"), null));
+        assertEquals(List.of(april, marchSketch), modelManager.getFilteredProjectList());
+    }
+
+    @Test
+    public void updateFilteredListsByKeywords_filtersWithKeywordIndexes() {
+        Client aliceTan = new ClientBuilder().withName("Alice Tan").build();
+        Client bobLim = new ClientBuilder().withName("Bob Lim").build();
+        Project oilPainting = new ProjectBuilder().withTitle("Oil Painting").build();
+        Project skySketch = new ProjectBuilder().withTitle("Sky Sketch").build();
+        modelManager.addClient(aliceTan);
+        modelManager.addClient(bobLim);
+        modelManager.addProject(oilPainting);
+        modelManager.addProject(skySketch);
+        modelManager.setProjectToLink(skySketch);
+        modelManager.linkProjectToClient(aliceTan);
+
+        modelManager.updateFilteredClientList(new NameContainsKeywordsPredicate(List.of("tan", "lim")));
+        assertEquals(2, modelManager.getFilteredClientList().size());
+        modelManager.updateFilteredClientList(new NameContainsKeywordsPredicate(List.of("BOB")));
+        assertEquals(List.of(bobLim), modelManager.getFilteredClientList());
+
+        // clients edited after filtering are filtered too
+        Client bobTan = new ClientBuilder().withName("Bob Tan").build();
+        modelManager.setClient(bobLim, bobTan);
+        assertEquals(List.of(bobTan), modelManager.getFilteredClientList());
+
+        List<Predicate<Project>> predicates = List.of(new TitleContainsKeywordsPredicate(List.of("sketch", "oil")),
+                new LinkedClientNameContainsKeywordsPredicate(List.of("alice")));
+        modelManager.updateFilteredProjectList(new CombinedPredicate<>(predicates));
+        assertEquals(List.of(skySketch), modelManager.getFilteredProjectList());
+    }
+
+    @Test
+    public void updateFilteredListsByTags_filtersWithTagMappings() {
+        Client friend = new ClientBuilder().withName("Alice Tan").withTags("friend").build();
+        Client colleague = new ClientBuilder().withName("Bob Lim").withTags("colleague").build();
+        Project oilPainting = new ProjectBuilder().withTitle("Oil Painting").withTags("oil").build();
+        Project skySketch = new ProjectBuilder().withTitle("Sky Sketch").withTags("sketch", "sky").build();
+        modelManager.addClient(friend);
+        modelManager.addClient(colleague);
+        modelManager.addProject(oilPainting);
+        modelManager.addProject(skySketch);
+
+        modelManager.updateFilteredClientList(new ClientContainsTagsPredicate(List.of("FRIEND", "family")));
+        assertEquals(List.of(friend), modelManager.getFilteredClientList());
+
+        // clients edited after filtering are filtered too
+        Client friendlyColleague = new ClientBuilder(colleague).withTags("colleague", "friend").build();
+        modelManager.setClient(colleague, friendlyColleague);
+        assertEquals(List.of(friend, friendlyColleague), modelManager.getFilteredClientList());
+
+        List<Predicate<Project>> predicates = List.of(new ProjectContainsTagsPredicate(List.of("oil", "sky")),
+                new TitleContainsKeywordsPredicate(List.of("sketch")));
+        modelManager.updateFilteredProjectList(new CombinedPredicate<>(predicates));
+        assertEquals(List.of(skySketch), modelManager.getFilteredProjectList());
+    }
+
+    @Test
+    public void resetFilteredAndSortedClientList_unchanged_listsNotRebuilt() {
+        modelManager.addClient(ALICE);
+        modelManager.updateSortedClientList(CLIENT_NAME_COMPARATOR);
+        List<String> changes = new ArrayList<>();
+        modelManager.getSortedClientList().addListener((ListChangeListener<Client>) change -> changes.add("change"));
+
+        modelManager.updateSortedClientList(CLIENT_NAME_COMPARATOR);
+        modelManager.updateFilteredClientList(PREDICATE_SHOW_ALL_CLIENTS);
+        assertTrue(changes.isEmpty());
+
+        // a single added client is inserted in order
+        modelManager.addClient(BENSON);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getSortedClientList());
+    }
+
+    @Test
+    public void updateFilteredProjectList_projectUnlinkedInPlace_projectFilteredOut() {
+        Client aliceTan = new ClientBuilder().withName("Alice Tan").build();
+        Project oilPainting = new ProjectBuilder().withTitle("Oil Painting").build();
+        modelManager.addClient(aliceTan);
+        modelManager.addProject(oilPainting);
+        modelManager.setProjectToLink(oilPainting);
+        modelManager.linkProjectToClient(aliceTan);
+
+        modelManager.updateFilteredProjectList(new LinkedClientNameContainsKeywordsPredicate(List.of("alice")));
+        assertEquals(List.of(oilPainting), modelManager.getFilteredProjectList());
+
+        modelManager.unlinkClientFromProject(oilPainting);
+        assertTrue(modelManager.getFilteredProjectList().isEmpty());
+    }
 }
@@ -37,4 +37,16 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void containsWord() {
+        Name name = new Name("Alice  Tan Wei");
+        assertTrue(name.containsWord("alice"));
+        assertTrue(name.containsWord("wei"));
+        assertFalse(name.containsWord("Alice")); // not lower case
+        assertFalse(name.containsWord("ali"));
+
+        // searching again uses the cached words
+        assertTrue(name.containsWord("tan"));
+    }
 }
@@ -13,6 +13,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +23,7 @@ import arb.model.client.exceptions.DuplicateClientException;
 import arb.model.project.Project;
 import arb.testutil.ClientBuilder;
 import arb.testutil.ProjectBuilder;
+import javafx.collections.ListChangeListener;
 
 public class UniqueClientListTest {
 
@@ -130,6 +133,25 @@ public class UniqueClientListTest {
         assertEquals(expectedUniqueClientList, uniqueClientList);
     }
 
+    @Test
+    public void remove_clientWithSameIdentityButDifferentFields_throwsClientNotFoundException() {
+        uniqueClientList.add(ALICE);
+        Client editedAlice = new ClientBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(ClientNotFoundException.class, () -> uniqueClientList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_earlierClient_laterClientsStillFound() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        uniqueClientList.remove(ALICE);
+        assertFalse(uniqueClientList.contains(ALICE));
+        assertTrue(uniqueClientList.contains(BOB.getName()));
+        uniqueClientList.setClient(BOB, ALICE);
+        assertTrue(uniqueClientList.contains(ALICE));
+        assertFalse(uniqueClientList.contains(BOB));
+    }
+
     @Test
     public void setClients_nullUniqueClientList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueClientList.setClients((UniqueClientList) null));
@@ -165,6 +187,13 @@ public class UniqueClientListTest {
         assertThrows(DuplicateClientException.class, () -> uniqueClientList.setClients(listWithDuplicateClients));
     }
 
+    @Test
+    public void setClients_listWithDuplicateClients_reportsDuplicateClients() {
+        List<Client> listWithDuplicateClients = Arrays.asList(ALICE, BOB, ALICE, BOB);
+        assertThrows(DuplicateClientException.class, "Operation would result in duplicate clients: "
+                + ALICE.getName() + ", " + BOB.getName(), () -> uniqueClientList.setClients(listWithDuplicateClients));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -243,10 +272,53 @@ public class UniqueClientListTest {
         assertEquals(uniqueClientList, expectedClientList);
     }
 
+    @Test
+    public void resetProjectLinkings_publishesSingleChange() {
+        uniqueClientList.add(new ClientBuilder(ALICE).withProjects(new ProjectBuilder(CRAYON_PROJECT).build()).build());
+        uniqueClientList.add(new ClientBuilder(BOB).withProjects(new ProjectBuilder(CROCHET).build()).build());
+        AtomicInteger numberOfChanges = new AtomicInteger();
+        uniqueClientList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Client>) c -> numberOfChanges.incrementAndGet());
+        uniqueClientList.resetProjectLinkings();
+        assertEquals(1, numberOfChanges.get());
+    }
+
+    @Test
+    public void replaceAll_duplicateReplacements_throwsDuplicateClientException() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.add(BOB);
+        assertThrows(DuplicateClientException.class, () -> uniqueClientList.replaceAll(c -> ALICE));
+    }
+
     @Test
     public void numberOfClientsMatchingPredicate() {
         uniqueClientList.add(ALICE);
         uniqueClientList.add(BOB);
         assertEquals(1, uniqueClientList.numberOfClientsMatchingPredicate(c -> c.getName().equals(ALICE.getName())));
     }
+
+    @Test
+    public void getClientsWithNameContainingAny() {
+        Client aliceTan = new ClientBuilder().withName("Alice Tan").build();
+        Client bobTan = new ClientBuilder().withName("Bob TAN").build();
+        uniqueClientList.add(aliceTan);
+        uniqueClientList.add(bobTan);
+        assertClientsEqual(List.of(aliceTan, bobTan), uniqueClientList.getClientsWithNameContainingAny(List.of("tan")));
+        assertClientsEqual(List.of(aliceTan), uniqueClientList.getClientsWithNameContainingAny(List.of("ALICE", "x")));
+        assertClientsEqual(List.of(), uniqueClientList.getClientsWithNameContainingAny(List.of("Ali")));
+
+        Client bobLim = new ClientBuilder().withName("Bob Lim").build();
+        uniqueClientList.setClient(bobTan, bobLim);
+        uniqueClientList.remove(aliceTan);
+        assertClientsEqual(List.of(), uniqueClientList.getClientsWithNameContainingAny(List.of("tan")));
+        assertClientsEqual(List.of(bobLim), uniqueClientList.getClientsWithNameContainingAny(List.of("bob")));
+
+        uniqueClientList.setClients(List.of(aliceTan));
+        assertClientsEqual(List.of(aliceTan), uniqueClientList.getClientsWithNameContainingAny(List.of("tan")));
+    }
+
+    private static void assertClientsEqual(List<Client> expected, Set<Client> actual) {
+        assertEquals(expected.size(), actual.size());
+        assertTrue(expected.stream().allMatch(actual::contains));
+    }
 }
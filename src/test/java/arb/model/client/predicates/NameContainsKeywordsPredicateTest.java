@@ -1,5 +1,6 @@
 package arb.model.client.predicates;
 
+import static arb.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -10,6 +11,17 @@ import arb.testutil.PredicateUtil;
 
 public class NameContainsKeywordsPredicateTest {
 
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        // empty keyword
+        assertThrows(IllegalArgumentException.class, ()
+            -> PredicateUtil.getNameContainsKeywordsPredicate("first", "  "));
+
+        // multiple words in one keyword
+        assertThrows(IllegalArgumentException.class, ()
+            -> PredicateUtil.getNameContainsKeywordsPredicate("first second"));
+    }
+
     @Test
     public void equals() {
         NameContainsKeywordsPredicate firstPredicate = PredicateUtil.getNameContainsKeywordsPredicate("first");
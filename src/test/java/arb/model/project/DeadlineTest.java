@@ -1,9 +1,14 @@
 package arb.model.project;
 
 import static arb.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class DeadlineTest {
@@ -45,4 +50,31 @@ public class DeadlineTest {
         assertTrue(Deadline.isValidDeadline("midnight tomorrow")); // natural language processing for date and time
     }
 
+    @Test
+    public void parse() {
+        // null deadline
+        assertThrows(NullPointerException.class, () -> Deadline.parse(null));
+
+        // invalid deadlines
+        assertEquals(Optional.empty(), Deadline.parse("sky"));
+
+        // date and time as stored in the data file
+        LocalDateTime dueDate = LocalDateTime.of(2023, 3, 5, 14, 30, 15, 123000000);
+        assertEquals(Optional.of(Deadline.of(dueDate)), Deadline.parse(dueDate.toString()));
+        assertEquals(Optional.of(Deadline.of(dueDate.withSecond(0).withNano(0))), Deadline.parse("2023-03-05T14:30"));
+
+        // dates only
+        assertEquals(LocalDate.of(2023, 3, 5), Deadline.parse("2023-03-05").get().dueDate.toLocalDate());
+        assertEquals(LocalDate.of(2023, 3, 5), Deadline.parse(" 05/03/2023 ").get().dueDate.toLocalDate());
+        assertEquals(LocalDate.of(2023, 3, 5), Deadline.parse("5/3/2023").get().dueDate.toLocalDate());
+
+        // natural language
+        assertEquals(LocalDate.now().plusDays(1), Deadline.parse("tomorrow").get().dueDate.toLocalDate());
+    }
+
+    @Test
+    public void constructor_isoDateTime_sameAsParse() {
+        LocalDateTime dueDate = LocalDateTime.of(2023, 3, 5, 14, 30);
+        assertEquals(Deadline.of(dueDate), new Deadline(dueDate.toString()));
+    }
 }
@@ -0,0 +1,69 @@
+package arb.model.project;
+
+import static arb.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.Test;
+
+import arb.testutil.ManualClock;
+import arb.testutil.ProjectBuilder;
+
+public class OverdueEvaluatorTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Singapore");
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 5, 23, 30);
+
+    private final ManualClock clock = new ManualClock(NOW.atZone(ZONE).toInstant(), ZONE);
+    private final OverdueEvaluator overdueEvaluator = new OverdueEvaluator(clock);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new OverdueEvaluator(null));
+    }
+
+    @Test
+    public void getStartOfToday_afterMidnight_movesToNextDay() {
+        assertEquals(LocalDateTime.of(2023, 3, 5, 0, 0), overdueEvaluator.getStartOfToday());
+
+        clock.advance(Duration.ofMinutes(29));
+        assertEquals(LocalDateTime.of(2023, 3, 5, 0, 0), overdueEvaluator.getStartOfToday());
+
+        clock.advance(Duration.ofMinutes(1));
+        assertEquals(LocalDateTime.of(2023, 3, 6, 0, 0), overdueEvaluator.getStartOfToday());
+
+        clock.advance(Duration.ofDays(3));
+        assertEquals(LocalDateTime.of(2023, 3, 9, 0, 0), overdueEvaluator.getStartOfToday());
+    }
+
+    @Test
+    public void isOverdue() {
+        Project dueYesterday = project(NOW.minusDays(1), false);
+        Project dueEarlierToday = project(NOW.minusHours(1), false);
+
+        // due before today and is not done
+        assertTrue(overdueEvaluator.isOverdue(dueYesterday));
+
+        // due before today and is done
+        assertFalse(overdueEvaluator.isOverdue(project(NOW.minusDays(1), true)));
+
+        // due today and is not done
+        assertFalse(overdueEvaluator.isOverdue(dueEarlierToday));
+
+        // no deadline and is not done
+        assertFalse(overdueEvaluator.isOverdue(new ProjectBuilder().withDeadline(null).build()));
+
+        // due earlier today and the day has passed
+        clock.advance(Duration.ofHours(1));
+        assertTrue(overdueEvaluator.isOverdue(dueEarlierToday));
+    }
+
+    private static Project project(LocalDateTime dueDate, boolean isDone) {
+        return new ProjectBuilder().withDeadline(dueDate.toString()).withStatus(isDone).build();
+    }
+}
@@ -1,6 +1,7 @@
 package arb.model.project;
 
 import static arb.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -41,6 +42,24 @@ public class PriceTest {
         // valid prices
         assertTrue(Price.isValidPrice("3")); // number only
         assertTrue(Price.isValidPrice("3.15")); // number with decimals
+        assertTrue(Price.isValidPrice("999999999999999.99")); // largest number of dollars
+        assertFalse(Price.isValidPrice("1000000000000000")); // too many dollars to count in cents
     }
 
+    @Test
+    public void getPrice_exactCents() {
+        assertEquals("3.00", new Price("3").getPrice());
+        assertEquals("0.05", new Price("0.05").getPrice());
+        assertEquals("4098.90", new Price("4098.90").getPrice());
+        assertEquals(409890, new Price("4098.90").getCents());
+        assertEquals(new Price("4098.90"), Price.ofCents(409890));
+        assertThrows(IllegalArgumentException.class, () -> Price.ofCents(-1));
+    }
+
+    @Test
+    public void compareToAndHashCode() {
+        assertTrue(new Price("0.99").compareTo(new Price("1")) < 0);
+        assertEquals(0, new Price("1").compareTo(new Price("1.00")));
+        assertEquals(new Price("1").hashCode(), new Price("1.00").hashCode());
+    }
 }
@@ -10,17 +10,29 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import arb.model.client.Client;
+import arb.model.client.Name;
 import arb.model.project.exceptions.DuplicateProjectException;
 import arb.model.project.exceptions.ProjectNotFoundException;
+import arb.model.tag.Tag;
 import arb.testutil.ClientBuilder;
+import arb.testutil.ManualClock;
 import arb.testutil.ProjectBuilder;
+import javafx.collections.ListChangeListener;
 
 public class UniqueProjectListTest {
 
@@ -130,6 +142,17 @@ public class UniqueProjectListTest {
         assertEquals(expecteduniqueProjectList, uniqueProjectList);
     }
 
+    @Test
+    public void remove_earlierProject_laterProjectsStillFound() {
+        uniqueProjectList.add(SKY_PAINTING);
+        uniqueProjectList.add(OIL_PAINTING);
+        uniqueProjectList.remove(SKY_PAINTING);
+        assertFalse(uniqueProjectList.contains(SKY_PAINTING));
+        uniqueProjectList.setProject(OIL_PAINTING, SKY_PAINTING);
+        assertTrue(uniqueProjectList.contains(SKY_PAINTING));
+        assertFalse(uniqueProjectList.contains(OIL_PAINTING));
+    }
+
     @Test
     public void setProjects_nulluniqueProjectList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueProjectList.setProjects((UniqueProjectList) null));
@@ -244,6 +267,24 @@ public class UniqueProjectListTest {
         assertEquals(uniqueProjectList, expectedProjectList);
     }
 
+    @Test
+    public void resetClientLinkings_publishesSingleChange() {
+        uniqueProjectList.add(new ProjectBuilder(SKY_PAINTING).withLinkedClient(ALICE).build());
+        uniqueProjectList.add(new ProjectBuilder(OIL_PAINTING).withLinkedClient(BOB).build());
+        AtomicInteger numberOfChanges = new AtomicInteger();
+        uniqueProjectList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Project>) c -> numberOfChanges.incrementAndGet());
+        uniqueProjectList.resetClientLinkings();
+        assertEquals(1, numberOfChanges.get());
+    }
+
+    @Test
+    public void replaceAll_duplicateReplacements_throwsDuplicateProjectException() {
+        uniqueProjectList.add(SKY_PAINTING);
+        uniqueProjectList.add(OIL_PAINTING);
+        assertThrows(DuplicateProjectException.class, () -> uniqueProjectList.replaceAll(p -> SKY_PAINTING));
+    }
+
     @Test
     public void markProjectAsDone_success() {
         Project project = new ProjectBuilder().build();
@@ -281,4 +322,166 @@ public class UniqueProjectListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniqueProjectList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void noOverdueProjects_injectedClock_countsProjectsDueBeforeToday() {
+        LocalDateTime now = LocalDateTime.of(2023, 3, 5, 12, 0);
+        Instant nowInstant = now.toInstant(ZoneOffset.UTC);
+        UniqueProjectList projectList = new UniqueProjectList(
+                new OverdueEvaluator(new ManualClock(nowInstant, ZoneOffset.UTC)));
+        projectList.add(new ProjectBuilder().withTitle("Overdue").withDeadline(now.minusDays(2).toString()).build());
+        projectList.add(new ProjectBuilder().withTitle("Done").withDeadline(now.minusDays(2).toString())
+                .withStatus(true).build());
+        projectList.add(new ProjectBuilder().withTitle("Due Today").withDeadline(now.minusHours(1).toString())
+                .build());
+        projectList.add(new ProjectBuilder().withTitle("No Deadline").withDeadline(null).build());
+        assertEquals(1, projectList.noOverdueProjects());
+    }
+
+    @Test
+    public void statistics_listChanges_countsKeptUpToDate() {
+        LocalDateTime now = LocalDateTime.of(2023, 3, 5, 12, 0);
+        ManualClock clock = new ManualClock(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        UniqueProjectList projectList = new UniqueProjectList(new OverdueEvaluator(clock));
+        Project overdue = new ProjectBuilder().withTitle("Overdue").withDeadline(now.minusDays(2).toString()).build();
+        Project dueTomorrow = new ProjectBuilder().withTitle("Due Tomorrow").withDeadline(now.plusDays(1).toString())
+                .build();
+        Project noDeadline = new ProjectBuilder().withTitle("No Deadline").withDeadline(null).build();
+        projectList.add(overdue);
+        projectList.add(dueTomorrow);
+        projectList.add(noDeadline);
+        assertStatistics(projectList, 0, 2, 1);
+
+        projectList.markProjectAsDone(overdue);
+        projectList.markProjectAsDone(noDeadline);
+        assertStatistics(projectList, 2, 2, 0);
+
+        projectList.markProjectAsNotDone(overdue);
+        assertStatistics(projectList, 1, 2, 1);
+
+        // two days later, the project that was due tomorrow is overdue as well
+        clock.advance(Duration.ofDays(2));
+        assertStatistics(projectList, 1, 2, 2);
+
+        Project editedDueTomorrow = new ProjectBuilder(dueTomorrow).withDeadline(now.plusDays(3).toString()).build();
+        projectList.setProject(dueTomorrow, editedDueTomorrow);
+        assertStatistics(projectList, 1, 2, 1);
+
+        projectList.remove(overdue);
+        assertStatistics(projectList, 1, 1, 0);
+
+        projectList.setProjects(Arrays.asList(overdue, noDeadline));
+        assertStatistics(projectList, 1, 1, 1);
+    }
+
+    private static void assertStatistics(UniqueProjectList projectList, int doneCount, int deadlineCount,
+            int overdueCount) {
+        assertEquals(doneCount, projectList.noDoneProjects());
+        assertEquals(projectList.noProjectSize() - doneCount, projectList.noNotDoneProjects());
+        assertEquals(deadlineCount, projectList.noProjectsWithDeadline());
+        assertEquals(overdueCount, projectList.noOverdueProjects());
+    }
+
+    @Test
+    public void getProjectsWithin() {
+        Project march = new ProjectBuilder().withTitle("March").withDeadline("2023-03-15T12:00").build();
+        Project april = new ProjectBuilder().withTitle("April").withDeadline("2023-04-15T12:00").build();
+        Project alsoApril = new ProjectBuilder().withTitle("Also April").withDeadline("2023-04-15T12:00").build();
+        Project noDeadline = new ProjectBuilder().withTitle("No Deadline").withDeadline(null).build();
+        uniqueProjectList.add(april);
+        uniqueProjectList.add(noDeadline);
+        uniqueProjectList.add(march);
+        uniqueProjectList.add(alsoApril);
+
+        assertEquals(Arrays.asList(march, april, alsoApril), uniqueProjectList.getProjectsWithin(null, null));
+        assertEquals(Arrays.asList(april, alsoApril), uniqueProjectList.getProjectsWithin(
+                new Deadline("2023-04-15T12:00"), null));
+        assertEquals(Arrays.asList(march), uniqueProjectList.getProjectsWithin(
+                new Deadline("2023-03-01T00:00"), new Deadline("2023-04-15T11:59")));
+
+        uniqueProjectList.remove(april);
+        Project editedMarch = new ProjectBuilder(march).withDeadline("2023-05-01T00:00").build();
+        uniqueProjectList.setProject(march, editedMarch);
+        assertEquals(Arrays.asList(alsoApril, editedMarch), uniqueProjectList.getProjectsWithin(null, null));
+    }
+
+    @Test
+    public void getProjectsWithKeywords() {
+        Project oilPainting = new ProjectBuilder().withTitle("Oil Painting").build();
+        Project skyPainting = new ProjectBuilder().withTitle("Sky painting").build();
+        Client client = new ClientBuilder().withName("Alice Tan").build();
+        uniqueProjectList.add(oilPainting);
+        uniqueProjectList.add(skyPainting);
+        assertProjectsEqual(List.of(oilPainting, skyPainting),
+                uniqueProjectList.getProjectsWithTitleContainingAny(List.of("PAINTING")));
+        assertProjectsEqual(List.of(), uniqueProjectList.getProjectsWithClientNameContainingAny(List.of("alice")));
+
+        uniqueProjectList.linkProjectToClient(oilPainting, client);
+        assertProjectsEqual(List.of(oilPainting),
+                uniqueProjectList.getProjectsWithClientNameContainingAny(List.of("tan")));
+
+        uniqueProjectList.unlinkProjectFromClient(oilPainting);
+        uniqueProjectList.remove(skyPainting);
+        assertProjectsEqual(List.of(), uniqueProjectList.getProjectsWithClientNameContainingAny(List.of("tan")));
+        assertProjectsEqual(List.of(oilPainting),
+                uniqueProjectList.getProjectsWithTitleContainingAny(List.of("painting")));
+    }
+
+    @Test
+    public void getRevenue_listChanges_revenueKeptUpToDate() {
+        Project march = new ProjectBuilder().withTitle("March").withDeadline("2023-03-15T12:00")
+                .withPrice("0.10").withTags("oil").build();
+        Project alsoMarch = new ProjectBuilder().withTitle("Also March").withDeadline("2023-03-20T12:00")
+                .withPrice("0.20").withTags("oil", "sky").build();
+        Project free = new ProjectBuilder().withTitle("Free").withPrice(null).withTags("oil").build();
+        Client client = new ClientBuilder().withName("Alice Tan").build();
+        uniqueProjectList.add(march);
+        uniqueProjectList.add(alsoMarch);
+        uniqueProjectList.add(free);
+        uniqueProjectList.linkProjectToClient(march, client);
+
+        // exact, unlike 0.1 + 0.2 in floating point
+        assertEquals(new BigDecimal("0.30"), uniqueProjectList.getRevenue().getTotal());
+        assertEquals(new Price("0.15"), uniqueProjectList.getRevenue().getAverage());
+        assertEquals(2, uniqueProjectList.getRevenue().getNumberOfProjects());
+        assertEquals(new BigDecimal("0.30"), uniqueProjectList.getRevenueByTag().get(new Tag("oil")).getTotal());
+        assertEquals(new BigDecimal("0.20"), uniqueProjectList.getRevenueByTag().get(new Tag("sky")).getTotal());
+        assertEquals(new BigDecimal("0.10"),
+                uniqueProjectList.getRevenueByClient().get(new Name("Alice Tan")).getTotal());
+        assertEquals(List.of(YearMonth.of(2023, 3)), List.copyOf(uniqueProjectList.getRevenueByMonth().keySet()));
+
+        Project aprilSky = new ProjectBuilder(alsoMarch).withDeadline("2023-04-01T12:00").withTags("sky").build();
+        uniqueProjectList.setProject(alsoMarch, aprilSky);
+        uniqueProjectList.unlinkProjectFromClient(march);
+        assertEquals(new BigDecimal("0.10"), uniqueProjectList.getRevenueByTag().get(new Tag("oil")).getTotal());
+        assertTrue(uniqueProjectList.getRevenueByClient().isEmpty());
+        assertEquals(List.of(YearMonth.of(2023, 3), YearMonth.of(2023, 4)),
+                List.copyOf(uniqueProjectList.getRevenueByMonth().keySet()));
+
+        uniqueProjectList.remove(march);
+        assertEquals(new BigDecimal("0.20"), uniqueProjectList.getRevenue().getTotal());
+        assertFalse(uniqueProjectList.getRevenueByTag().containsKey(new Tag("oil")));
+        assertFalse(uniqueProjectList.getRevenueByMonth().containsKey(YearMonth.of(2023, 3)));
+    }
+
+    @Test
+    public void getRevenue_totalMoreThanLongCents_exactTotal() {
+        String maxPrice = "999999999999999.99";
+        int count = 100;
+        for (int i = 0; i < count; i++) {
+            uniqueProjectList.add(new ProjectBuilder().withTitle("Project " + i).withPrice(maxPrice)
+                    .withTags("oil").build());
+        }
+
+        BigDecimal expectedTotal = new BigDecimal(maxPrice).multiply(BigDecimal.valueOf(count));
+        assertEquals(expectedTotal, uniqueProjectList.getRevenue().getTotal());
+        assertEquals(new Price(maxPrice), uniqueProjectList.getRevenue().getAverage());
+        assertEquals(expectedTotal, uniqueProjectList.getRevenueByTag().get(new Tag("oil")).getTotal());
+        assertEquals(count, uniqueProjectList.noProjectSize());
+    }
+
+    private static void assertProjectsEqual(List<Project> expected, Set<Project> actual) {
+        assertEquals(expected.size(), actual.size());
+        assertTrue(expected.stream().allMatch(actual::contains));
+    }
 }
@@ -1,5 +1,6 @@
 package arb.model.project.predicates;
 
+import static arb.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -10,6 +11,17 @@ import arb.testutil.ProjectBuilder;
 
 public class TitleContainsKeywordsPredicateTest {
 
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        // empty keyword
+        assertThrows(IllegalArgumentException.class, ()
+            -> PredicateUtil.getTitleContainsKeywordsPredicate("first", "  "));
+
+        // multiple words in one keyword
+        assertThrows(IllegalArgumentException.class, ()
+            -> PredicateUtil.getTitleContainsKeywordsPredicate("first second"));
+    }
+
     @Test
     public void equals() {
         TitleContainsKeywordsPredicate firstPredicate = PredicateUtil.getTitleContainsKeywordsPredicate("first");
@@ -1,5 +1,9 @@
 package arb.model.tag;
 
+import static arb.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static arb.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static arb.logic.commands.CommandTestUtil.VALID_TAG_PAINTING;
+import static arb.logic.commands.CommandTestUtil.VALID_TAG_POTTERY;
 import static arb.testutil.Assert.assertThrows;
 import static arb.testutil.TypicalClients.AMY;
 import static arb.testutil.TypicalClients.BOB;
@@ -10,9 +14,11 @@ import static arb.testutil.TypicalTagMappings.HUSBAND_TAG;
 import static arb.testutil.TypicalTagMappings.PAINTING_TAG;
 import static arb.testutil.TypicalTagMappings.POTTERY_TAG;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +26,8 @@ import org.junit.jupiter.api.Test;
 import arb.model.client.Client;
 import arb.model.project.Project;
 import arb.model.tag.exceptions.DuplicateTagMappingException;
+import arb.testutil.ClientBuilder;
+import arb.testutil.ProjectBuilder;
 import arb.testutil.TagMappingBuilder;
 
 public class UniqueTagMappingListTest {
@@ -137,7 +145,7 @@ public class UniqueTagMappingListTest {
         TagMapping husbandTagMapping = new TagMappingBuilder(HUSBAND_TAG)
                 .withNumberOfClientsTagged(1).build();
         TagMapping friendTagMapping = new TagMappingBuilder(FRIEND_TAG)
-                .withNumberOfClientsTagged(1).build();
+                .withClientsTagged(AMY).build();
         List<TagMapping> initialTagMappings = Arrays.asList(husbandTagMapping, friendTagMapping);
         List<TagMapping> expectedTagMappings = Arrays.asList(husbandTagMapping);
 
@@ -150,6 +158,24 @@ public class UniqueTagMappingListTest {
         assertEquals(expectedUniqueTagMappingList, uniqueTagMappingList);
     }
 
+    @Test
+    public void deleteClientTags_earlierTagMappingRemoved_laterTagMappingsStillUpdated() {
+        TagMapping friendTagMapping = new TagMappingBuilder(FRIEND_TAG)
+                .withClientsTagged(AMY).build();
+        TagMapping husbandTagMapping = new TagMappingBuilder(HUSBAND_TAG)
+                .withNumberOfClientsTagged(1).build();
+        uniqueTagMappingList.setTagMappings(Arrays.asList(friendTagMapping, husbandTagMapping));
+
+        uniqueTagMappingList.deleteClientTags(AMY);
+        uniqueTagMappingList.addClientTags(BOB);
+
+        UniqueTagMappingList expectedUniqueTagMappingList = new UniqueTagMappingList();
+        expectedUniqueTagMappingList.setTagMappings(Arrays.asList(
+                new TagMappingBuilder(HUSBAND_TAG).withNumberOfClientsTagged(2).build(),
+                new TagMappingBuilder(FRIEND_TAG).withNumberOfClientsTagged(1).build()));
+        assertEquals(expectedUniqueTagMappingList, uniqueTagMappingList);
+    }
+
     @Test
     public void deleteProjectTags_nullClient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTagMappingList.deleteProjectTags(null));
@@ -158,7 +184,7 @@ public class UniqueTagMappingListTest {
     @Test
     public void deleteProjectTags_success() {
         TagMapping paintingTagMapping = new TagMappingBuilder(PAINTING_TAG)
-                .withNumberOfProjectsTagged(1).build();
+                .withProjectsTagged(OIL_PAINTING).build();
         TagMapping potteryTagMapping = new TagMappingBuilder(POTTERY_TAG)
                 .withNumberOfProjectsTagged(1).build();
         List<TagMapping> initialTagMappings = Arrays.asList(paintingTagMapping, potteryTagMapping);
@@ -192,7 +218,8 @@ public class UniqueTagMappingListTest {
 
         uniqueTagMappingList.addClientTags(BOB);
         uniqueTagMappingList.addClientTags(AMY);
-        uniqueTagMappingList.editClientTags(AMY, BOB);
+        Client editedAmy = new ClientBuilder(AMY).withTags(VALID_TAG_HUSBAND, VALID_TAG_FRIEND).build();
+        uniqueTagMappingList.editClientTags(AMY, editedAmy);
 
         assertEquals(uniqueTagMappingList, expectedUniqueTagMappingList);
     }
@@ -216,7 +243,9 @@ public class UniqueTagMappingListTest {
 
         uniqueTagMappingList.addProjectTags(SKY_PAINTING);
         uniqueTagMappingList.addProjectTags(OIL_PAINTING);
-        uniqueTagMappingList.editProjectTags(OIL_PAINTING, SKY_PAINTING);
+        Project editedOilPainting = new ProjectBuilder(OIL_PAINTING)
+                .withTags(VALID_TAG_PAINTING, VALID_TAG_POTTERY).build();
+        uniqueTagMappingList.editProjectTags(OIL_PAINTING, editedOilPainting);
 
         assertEquals(uniqueTagMappingList, expectedUniqueTagMappingList);
     }
@@ -251,6 +280,33 @@ public class UniqueTagMappingListTest {
         assertEquals(uniqueTagMappingList, expectedUniqueTagMappingList);
     }
 
+    @Test
+    public void getClientsTaggedWithAny_taggedClients_returnsClients() {
+        uniqueTagMappingList.addClientTags(AMY);
+        uniqueTagMappingList.addClientTags(BOB);
+        Client editedBob = new ClientBuilder(BOB).withTags(VALID_TAG_HUSBAND).build();
+        uniqueTagMappingList.editClientTags(BOB, editedBob);
+
+        assertEquals(new HashSet<>(Arrays.asList(AMY)),
+                uniqueTagMappingList.getClientsTaggedWithAny(Arrays.asList(new Tag(VALID_TAG_FRIEND))));
+        assertEquals(new HashSet<>(Arrays.asList(AMY, editedBob)), uniqueTagMappingList.getClientsTaggedWithAny(
+                Arrays.asList(new Tag(VALID_TAG_FRIEND), new Tag(VALID_TAG_HUSBAND))));
+        assertTrue(uniqueTagMappingList.getClientsTaggedWithAny(Arrays.asList(new Tag(VALID_TAG_PAINTING)))
+                .isEmpty());
+    }
+
+    @Test
+    public void getProjectsTaggedWithAny_taggedProjects_returnsProjects() {
+        uniqueTagMappingList.addProjectTags(SKY_PAINTING);
+        uniqueTagMappingList.addProjectTags(OIL_PAINTING);
+        uniqueTagMappingList.deleteProjectTags(SKY_PAINTING);
+
+        assertEquals(new HashSet<>(Arrays.asList(OIL_PAINTING)),
+                uniqueTagMappingList.getProjectsTaggedWithAny(Arrays.asList(new Tag(VALID_TAG_PAINTING))));
+        assertTrue(uniqueTagMappingList.getProjectsTaggedWithAny(Arrays.asList(new Tag(VALID_TAG_POTTERY)))
+                .isEmpty());
+    }
+
     @Test
     public void equals() {
         UniqueTagMappingList otherTagMappingList = new UniqueTagMappingList();
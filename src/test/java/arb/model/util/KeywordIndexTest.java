@@ -0,0 +1,40 @@
+package arb.model.util;
+
+import static arb.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordIndexTest {
+
+    private final KeywordIndex<String> keywordIndex = new KeywordIndex<>();
+
+    @Test
+    public void add_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> keywordIndex.add(null, "item"));
+    }
+
+    @Test
+    public void getItemsContainingAny_wholeWordsIgnoringCase() {
+        keywordIndex.add("Alice  Tan", "alice");
+        keywordIndex.add("tan tan", "tan");
+        assertEquals(Set.of("alice", "tan"), keywordIndex.getItemsContainingAny(List.of("TAN")));
+        assertEquals(Set.of("alice"), keywordIndex.getItemsContainingAny(List.of(" alice ", "bob")));
+        assertEquals(Set.of(), keywordIndex.getItemsContainingAny(List.of("ali")));
+        assertEquals(Set.of(), keywordIndex.getItemsContainingAny(List.of()));
+    }
+
+    @Test
+    public void remove_itemNoLongerFound() {
+        keywordIndex.add("Alice Tan", "alice");
+        keywordIndex.add("Bob Tan", "bob");
+        keywordIndex.remove("Alice Tan", "alice");
+        assertEquals(Set.of("bob"), keywordIndex.getItemsContainingAny(List.of("tan", "alice")));
+
+        keywordIndex.clear();
+        assertEquals(Set.of(), keywordIndex.getItemsContainingAny(List.of("bob")));
+    }
+}
@@ -0,0 +1,95 @@
+package arb.model.util;
+
+import static arb.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import arb.model.AddressBook;
+import arb.model.client.Client;
+import arb.model.client.Name;
+import arb.model.project.Project;
+
+public class SyntheticDataGeneratorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2023, 3, 1);
+
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator(7, 2000, 3000, 0.6, TODAY);
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(7, -1, 0, 0.6, TODAY));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(7, 0, 0, 1.5, TODAY));
+        assertThrows(NullPointerException.class, () -> new SyntheticDataGenerator(7, 0, 0, 0.6, null));
+    }
+
+    @Test
+    public void generateAddressBook_sameSeed_sameAddressBook() {
+        // linked clients and projects refer to each other, so only unlinked address books are compared
+        SyntheticDataGenerator unlinked = new SyntheticDataGenerator(7, 2000, 3000, 0, TODAY);
+        SyntheticDataGenerator sameSeed = new SyntheticDataGenerator(7, 2000, 3000, 0, TODAY);
+        assertEquals(unlinked.generateAddressBook(), sameSeed.generateAddressBook());
+
+        SyntheticDataGenerator otherSeed = new SyntheticDataGenerator(8, 2000, 3000, 0, TODAY);
+        assertNotEquals(unlinked.generateAddressBook(), otherSeed.generateAddressBook());
+    }
+
+    @Test
+    public void generateAddressBook_uniqueNamesAndTitles() {
+        // two rounds of the name pools, so names and titles have to be told apart by number
+        AddressBook addressBook = generator.generateAddressBook();
+        assertEquals(2000, addressBook.getClientList().size());
+        assertEquals(3000, addressBook.getProjectList().size());
+    }
+
+    @Test
+    public void generateAddressBook_projectsLinkedToClientsInAddressBook() {
+        AddressBook addressBook = generator.generateAddressBook();
+        int linkedCount = 0;
+        Set<Name> linkedClientNames = new HashSet<>();
+        for (Project project : addressBook.getProjectList()) {
+            if (project.isClientPresent()) {
+                linkedCount++;
+                Client client = project.getLinkedClient().get();
+                assertTrue(addressBook.getClientList().stream().anyMatch(c -> c == client));
+                linkedClientNames.add(client.getName());
+            }
+        }
+        // about 60% of projects are linked, to a minority of the clients
+        assertTrue(linkedCount > 1600 && linkedCount < 2000, "linked " + linkedCount);
+        assertTrue(linkedClientNames.size() < 1500, "linked to " + linkedClientNames.size());
+    }
+
+    @Test
+    public void getProjects_linkedToClientsWithSameName() {
+        int i = 0;
+        for (Project project : generator.getProjects()) {
+            assertEquals(generator.getLinkedClientIndex(i).isPresent(), project.isClientPresent());
+            generator.getLinkedClientIndex(i).ifPresent(clientIndex -> assertEquals(
+                    generator.getClientName(clientIndex), project.getLinkedClient().get().getName()));
+            i++;
+        }
+        assertEquals(3000, i);
+    }
+
+    @Test
+    public void getProject_outOfBounds_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.getProject(3000));
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.getClient(-1));
+    }
+
+    @Test
+    public void getLinkedClientIndex_noClients_notLinked() {
+        SyntheticDataGenerator noClients = new SyntheticDataGenerator(7, 0, 10, 1, TODAY);
+        for (int i = 0; i < 10; i++) {
+            assertFalse(noClients.getLinkedClientIndex(i).isPresent());
+        }
+    }
+}
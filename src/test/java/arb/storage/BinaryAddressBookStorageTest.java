@@ -0,0 +1,225 @@
+package arb.storage;
+
+import static arb.testutil.Assert.assertThrows;
+import static arb.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static arb.testutil.TypicalClients.ALICE;
+import static arb.testutil.TypicalClients.HOON;
+import static arb.testutil.TypicalClients.IDA;
+import static arb.testutil.TypicalProjects.PORTRAIT_PROJECT;
+import static arb.testutil.TypicalProjects.PUBLIC_PAINTING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import arb.commons.exceptions.DataConversionException;
+import arb.commons.util.FileUtil;
+import arb.model.AddressBook;
+import arb.model.ReadOnlyAddressBook;
+import arb.model.client.Client;
+import arb.model.project.Project;
+import arb.testutil.ClientBuilder;
+import arb.testutil.ProjectBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("NonExistentFile.bin")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+
+        FileUtil.writeToFile(filePath, "");
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_lengthLongerThanFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinarySerializableAddressBook.MAGIC_NUMBER);
+            out.writeInt(BinarySerializableAddressBook.FORMAT_VERSION);
+            out.writeInt(1);
+            out.writeInt(Integer.MAX_VALUE);
+        }
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_invalidDeadline_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        byte[] title = "Sky".getBytes(StandardCharsets.UTF_8);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinarySerializableAddressBook.MAGIC_NUMBER);
+            out.writeInt(BinarySerializableAddressBook.FORMAT_VERSION);
+            out.writeInt(1); // the only string, the project's title
+            out.writeInt(title.length);
+            out.write(title);
+            out.writeInt(0); // no clients
+            out.writeInt(1); // one project
+            out.writeInt(0);
+            out.writeByte(1 << 1); // with a deadline
+            out.writeLong(0);
+            out.writeInt(-1); // nanoseconds out of range
+            out.writeInt(0); // no tags
+        }
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addClient(HOON);
+        original.removeClient(ALICE);
+        original.addProject(new ProjectBuilder(PUBLIC_PAINTING).build());
+        original.removeProject(PORTRAIT_PROJECT);
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addClient(IDA);
+        binaryAddressBookStorage.saveAddressBook(original); // file path not specified
+        readBack = binaryAddressBookStorage.readAddressBook().get(); // file path not specified
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_linkedAndDoneProject_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        Client client = new ClientBuilder().withName("Linked Client").build();
+        Project project = new ProjectBuilder().withTitle("Linked Project").build();
+        original.addClient(client);
+        original.addProject(project);
+        original.setProjectToLink(project);
+        original.linkProjectToClient(client);
+        original.markProjectAsDone(project);
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+
+        // linked clients and projects refer to each other, so only their identities are compared
+        Project readBackProject = readBack.getProjectList().get(0);
+        assertTrue(readBackProject.isSameProject(project));
+        assertTrue(readBack.getClientList().get(0).isSameClient(client));
+        assertEquals("Linked Client", readBackProject.getClientName());
+        assertTrue(readBackProject.getStatus().getStatus());
+        assertEquals(1, readBack.getClientList().get(0).getNumberOfProjectsLinked());
+    }
+
+    @Test
+    public void readAddressBook_noBinaryFile_importsAddressBook() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(jsonFilePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        BinaryAddressBookStorage binaryAddressBookStorage =
+                new BinaryAddressBookStorage(binaryFilePath, jsonAddressBookStorage);
+        assertEquals(original, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+
+        // binary file takes precedence once it exists
+        AddressBook modified = new AddressBook(original);
+        modified.addClient(HOON);
+        binaryAddressBookStorage.saveAddressBook(modified);
+        assertEquals(modified, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void exportAddressBook_withJsonStorage_savesJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(jsonFilePath);
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath), jsonAddressBookStorage);
+        AddressBook original = getTypicalAddressBook();
+
+        binaryAddressBookStorage.exportAddressBook(original);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_existingFile_replacedWithoutTemporaryFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook modified = getTypicalAddressBook();
+        modified.addClient(HOON);
+        binaryAddressBookStorage.saveAddressBook(modified);
+        assertEquals(modified, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+        assertFalse(Files.exists(BinaryAddressBookStorage.getTemporaryFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_previousFileKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        binaryAddressBookStorage.saveAddressBook(original);
+
+        // the temporary file cannot be written over a directory
+        Files.createDirectory(BinaryAddressBookStorage.getTemporaryFilePath(filePath));
+        AddressBook modified = getTypicalAddressBook();
+        modified.addClient(HOON);
+        assertThrows(IOException.class, () -> binaryAddressBookStorage.saveAddressBook(modified));
+        assertEquals(original, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "arb.bin"), BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data",
+                "arb.json")));
+        assertEquals(Paths.get("arb.bin"), BinaryAddressBookStorage.getBinaryFilePath(Paths.get("arb")));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath)
+                .saveAddressBook(null));
+    }
+}
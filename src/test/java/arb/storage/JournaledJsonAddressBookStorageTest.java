@@ -0,0 +1,115 @@
+package arb.storage;
+
+import static arb.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static arb.testutil.TypicalClients.ALICE;
+import static arb.testutil.TypicalClients.HOON;
+import static arb.testutil.TypicalClients.IDA;
+import static arb.testutil.TypicalProjects.PORTRAIT_PROJECT;
+import static arb.testutil.TypicalProjects.PUBLIC_PAINTING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import arb.commons.util.FileUtil;
+import arb.model.AddressBook;
+import arb.model.ReadOnlyAddressBook;
+import arb.model.project.Project;
+import arb.testutil.ClientBuilder;
+import arb.testutil.ProjectBuilder;
+
+public class JournaledJsonAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledJsonAddressBookStorage storage = new JournaledJsonAddressBookStorage(filePath);
+
+        // First save writes a snapshot
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(readAddressBook(filePath)));
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        // Modify data and save again, which only appends to the journal
+        Project publicPainting = new ProjectBuilder(PUBLIC_PAINTING).build();
+        original.addClient(HOON);
+        original.removeClient(ALICE);
+        original.addProject(publicPainting);
+        original.removeProject(PORTRAIT_PROJECT);
+        original.markProjectAsDone(publicPainting);
+        original.setClient(HOON, new ClientBuilder(HOON).withName("Hoon Mayer").build());
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(original, new AddressBook(readAddressBook(filePath)));
+
+        // Save with no changes does not write anything
+        long journalSize = Files.size(JournaledJsonAddressBookStorage.getJournalFilePath(filePath));
+        storage.saveAddressBook(original);
+        assertEquals(journalSize, Files.size(JournaledJsonAddressBookStorage.getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_manyChanges_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledJsonAddressBookStorage storage = new JournaledJsonAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        for (int i = 0; i <= JournaledJsonAddressBookStorage.MIN_COMPACTION_THRESHOLD; i++) {
+            original.addClient(new ClientBuilder().withName("Client " + i).build());
+        }
+        storage.saveAddressBook(original);
+
+        // only the header of a new journal remains
+        Path journalFilePath = JournaledJsonAddressBookStorage.getJournalFilePath(filePath);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(readAddressBook(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_snapshotOverwritten_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledJsonAddressBookStorage storage = new JournaledJsonAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addClient(IDA);
+        storage.saveAddressBook(original);
+
+        AddressBook overwritten = new AddressBook();
+        overwritten.addClient(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(overwritten);
+        assertEquals(overwritten, new AddressBook(readAddressBook(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastJournalEntry_ignoresEntry() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournaledJsonAddressBookStorage storage = new JournaledJsonAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addClient(IDA);
+        storage.saveAddressBook(original);
+
+        FileUtil.appendToFile(JournaledJsonAddressBookStorage.getJournalFilePath(filePath), "{\"list\":\"cli");
+        assertEquals(original, new AddressBook(readAddressBook(filePath)));
+    }
+
+    private ReadOnlyAddressBook readAddressBook(Path filePath) throws Exception {
+        return new JournaledJsonAddressBookStorage(filePath).readAddressBook().get();
+    }
+
+    @Test
+    public void getJournalFilePath() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertTrue(JournaledJsonAddressBookStorage.getJournalFilePath(filePath)
+                .endsWith("addressbook.json" + JournaledJsonAddressBookStorage.JOURNAL_FILE_SUFFIX));
+    }
+}
@@ -13,13 +13,19 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import arb.commons.exceptions.DataConversionException;
+import arb.commons.util.FileUtil;
+import arb.commons.util.JsonUtil;
 import arb.model.AddressBook;
 import arb.model.ReadOnlyAddressBook;
+import arb.model.client.Client;
+import arb.model.project.Project;
+import arb.model.util.SyntheticDataGenerator;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -89,6 +95,36 @@ public class JsonAddressBookStorageTest {
         assertEquals(original, new AddressBook(readBack));
     }
 
+    @Test
+    public void saveAddressBook_sameFormatAsJsonSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_projectsBeforeClients_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(original);
+        FileUtil.writeToFile(filePath, "{\"projects\":" + JsonUtil.toCompactJsonString(data.getProjects())
+                + ",\"unknown\":{\"clients\":[]},\"clients\":" + JsonUtil.toCompactJsonString(data.getClients())
+                + "}");
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_notJsonObject_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        FileUtil.writeToFile(filePath, "[]");
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -110,4 +146,32 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void saveAddressBook_generatedClientsAndProjects_readBackAsGenerated() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(3, 100, 200, 0.6, LocalDate.of(2023, 3, 1));
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(generator.getClients(), generator.getProjects(), filePath);
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        AddressBook generated = generator.generateAddressBook();
+
+        // linked clients and projects refer to each other, so they are compared field by field
+        assertEquals(generated.getClientList().size(), readBack.getClientList().size());
+        for (int i = 0; i < generated.getClientList().size(); i++) {
+            Client expected = generated.getClientList().get(i);
+            Client actual = readBack.getClientList().get(i);
+            assertEquals(expected.toString(), actual.toString());
+            assertEquals(expected.getNumberOfProjectsLinked(), actual.getNumberOfProjectsLinked());
+        }
+        assertEquals(generated.getProjectList().size(), readBack.getProjectList().size());
+        for (int i = 0; i < generated.getProjectList().size(); i++) {
+            Project expected = generated.getProjectList().get(i);
+            Project actual = readBack.getProjectList().get(i);
+            assertEquals(expected.toString(), actual.toString());
+            assertEquals(expected.getStatus(), actual.getStatus());
+            assertEquals(expected.getClientName(), actual.getClientName());
+        }
+    }
 }
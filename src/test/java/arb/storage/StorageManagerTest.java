@@ -1,16 +1,23 @@
 package arb.storage;
 
+import static arb.testutil.Assert.assertThrows;
 import static arb.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static arb.testutil.TypicalClients.HOON;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import arb.commons.core.GuiSettings;
+import arb.commons.core.metrics.MetricsRegistry;
 import arb.model.AddressBook;
 import arb.model.ReadOnlyAddressBook;
 import arb.model.UserPrefs;
@@ -60,6 +67,70 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unmodifiedAddressBook_skipsSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        storageManager.saveAddressBook(original);
+        assertEquals(1, storageManager.getSkippedSaveCount());
+
+        // modified since last save -> saved
+        original.addClient(HOON);
+        storageManager.saveAddressBook(original);
+        assertEquals(1, storageManager.getSkippedSaveCount());
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+
+        // different file -> saved
+        storageManager.saveAddressBook(original, getTempFilePath("other"));
+        assertEquals(1, storageManager.getSkippedSaveCount());
+
+        // equal but different address book -> saved
+        storageManager.saveAddressBook(new AddressBook(original), getTempFilePath("other"));
+        assertEquals(1, storageManager.getSkippedSaveCount());
+    }
+
+    @Test
+    public void saveAddressBook_countsSavesAndBytesWritten() throws Exception {
+        MetricsRegistry metrics = MetricsRegistry.getDefault();
+        long saves = metrics.getCount(MetricsRegistry.SAVE_COUNT);
+        long skippedSaves = metrics.getCount(MetricsRegistry.SKIPPED_SAVE_COUNT);
+        long bytesWritten = metrics.getCount(MetricsRegistry.BYTES_WRITTEN_COUNT);
+
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        storageManager.saveAddressBook(original);
+        assertEquals(saves + 1, metrics.getCount(MetricsRegistry.SAVE_COUNT));
+        assertEquals(skippedSaves + 1, metrics.getCount(MetricsRegistry.SKIPPED_SAVE_COUNT));
+        assertTrue(metrics.getCount(MetricsRegistry.BYTES_WRITTEN_COUNT)
+                >= bytesWritten + Files.size(storageManager.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void prepareSaveAddressBook_writeThrowsRuntimeException_nextSaveNotSkipped() throws Exception {
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            protected void writeJsonAddressBook(JsonSerializableAddressBook data, Path filePath)
+                    throws IOException {
+                if (writeCount.incrementAndGet() == 1) {
+                    throw new IllegalStateException("dummy exception");
+                }
+                super.writeJsonAddressBook(data, filePath);
+            }
+        };
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        Path filePath = storageManager.getAddressBookFilePath();
+        AddressBook original = getTypicalAddressBook();
+
+        PreparedSave failedSave = storageManager.prepareSaveAddressBook(original, filePath).get();
+        assertThrows(IllegalStateException.class, failedSave::write);
+
+        // the failed save is not counted as saved, so the unchanged address book is saved again
+        storageManager.prepareSaveAddressBook(original, filePath).get().write();
+        assertEquals(0, storageManager.getSkippedSaveCount());
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
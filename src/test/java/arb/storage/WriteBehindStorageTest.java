@@ -0,0 +1,126 @@
+package arb.storage;
+
+import static arb.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static arb.testutil.TypicalClients.HOON;
+import static arb.testutil.TypicalClients.IDA;
+import static arb.testutil.TypicalProjects.PORTRAIT_PROJECT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import arb.model.AddressBook;
+
+public class WriteBehindStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindStorage createStorage(AddressBookStorage addressBookStorage) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        return new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void saveAddressBook_journaledStorage_savesAfterFlush() throws Exception {
+        WriteBehindStorage storage = createStorage(new JournaledJsonAddressBookStorage(testFolder.resolve("ab")));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        original.removeProject(PORTRAIT_PROJECT);
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void exportAddressBook_binaryStorage_jsonUpToDate() throws Exception {
+        JournaledJsonAddressBookStorage jsonStorage = new JournaledJsonAddressBookStorage(testFolder.resolve("ab"));
+        WriteBehindStorage storage = createStorage(new BinaryAddressBookStorage(testFolder.resolve("ab.bin"),
+                jsonStorage));
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        storage.exportAddressBook(original);
+
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalescesWrites() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            protected void writeJsonAddressBook(JsonSerializableAddressBook data, Path filePath)
+                    throws IOException {
+                if (writeCount.incrementAndGet() == 1) {
+                    firstWriteStarted.countDown();
+                    try {
+                        firstWriteReleased.await();
+                    } catch (InterruptedException ie) {
+                        throw new IOException(ie);
+                    }
+                }
+                super.writeJsonAddressBook(data, filePath);
+            }
+        };
+        WriteBehindStorage storage = createStorage(addressBookStorage);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        firstWriteStarted.await();
+
+        // saves requested while the first save is being written
+        original.addClient(HOON);
+        storage.saveAddressBook(original);
+        original.addClient(IDA);
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        firstWriteReleased.countDown();
+        storage.flush();
+
+        assertEquals(2, writeCount.get());
+        assertEquals(1, storage.getSkippedSaveCount());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_notifiesSaveFailureHandler() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            protected void writeJsonAddressBook(JsonSerializableAddressBook data, Path filePath)
+                    throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        WriteBehindStorage storage = createStorage(addressBookStorage);
+        List<IOException> failures = new ArrayList<>();
+        storage.setSaveFailureHandler(failures::add);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flush();
+        assertEquals(List.of(DUMMY_IO_EXCEPTION), failures);
+
+        // failed save is not treated as saved
+        storage.saveAddressBook(original);
+        storage.flush();
+        assertEquals(List.of(DUMMY_IO_EXCEPTION, DUMMY_IO_EXCEPTION), failures);
+        assertEquals(0, storage.getSkippedSaveCount());
+    }
+}
@@ -0,0 +1,42 @@
+package arb.testutil;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * A {@code Clock} that only moves when it is told to, for testing code that depends on the current time.
+ */
+public class ManualClock extends Clock {
+
+    private final ZoneId zone;
+    private Instant instant;
+
+    public ManualClock(Instant instant, ZoneId zone) {
+        this.instant = instant;
+        this.zone = zone;
+    }
+
+    /**
+     * Moves this clock forward by {@code duration}.
+     */
+    public void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new ManualClock(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
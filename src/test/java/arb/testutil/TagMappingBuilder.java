@@ -1,5 +1,11 @@
 package arb.testutil;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import arb.model.client.Client;
+import arb.model.project.Project;
 import arb.model.tag.Tag;
 import arb.model.tag.TagMapping;
 
@@ -11,16 +17,16 @@ public class TagMappingBuilder {
     public static final String DEFAULT_TAG = "friend";
 
     private Tag tag;
-    private int numberOfClientsTagged;
-    private int numberOfProjectsTagged;
+    private List<Client> clientsTagged;
+    private List<Project> projectsTagged;
 
     /**
      * Creates a {@code TagMappingBuilder} with the default details.
      */
     public TagMappingBuilder() {
         tag = new Tag(DEFAULT_TAG);
-        numberOfClientsTagged = 0;
-        numberOfProjectsTagged = 0;
+        clientsTagged = new ArrayList<>();
+        projectsTagged = new ArrayList<>();
     }
 
     /**
@@ -28,8 +34,8 @@ public class TagMappingBuilder {
      */
     public TagMappingBuilder(TagMapping tagMappingToCopy) {
         tag = tagMappingToCopy.getTag();
-        numberOfClientsTagged = tagMappingToCopy.getNumberOfClientsTagged();
-        numberOfProjectsTagged = tagMappingToCopy.getNumberOfProjectsTagged();
+        clientsTagged = new ArrayList<>(tagMappingToCopy.getTaggedClients());
+        projectsTagged = new ArrayList<>(tagMappingToCopy.getTaggedProjects());
     }
 
     /**
@@ -43,20 +49,42 @@ public class TagMappingBuilder {
     }
 
     /**
-    * Sets the number of clients the tag mapping being built is meant to tag.
+    * Sets the number of clients the tag mapping being built is meant to tag, tagging placeholder clients.
     */
     public TagMappingBuilder withNumberOfClientsTagged(int numberOfClientsTagged) {
         assert numberOfClientsTagged >= 0;
-        this.numberOfClientsTagged = numberOfClientsTagged;
+        clientsTagged = new ArrayList<>();
+        for (int i = 0; i < numberOfClientsTagged; i++) {
+            clientsTagged.add(new ClientBuilder().withName("Client " + i).build());
+        }
         return this;
     }
 
     /**
-    * Sets the number of projects the tag mapping being built is meant to tag.
+    * Sets the number of projects the tag mapping being built is meant to tag, tagging placeholder projects.
     */
     public TagMappingBuilder withNumberOfProjectsTagged(int numberOfProjectsTagged) {
         assert numberOfProjectsTagged >= 0;
-        this.numberOfProjectsTagged = numberOfProjectsTagged;
+        projectsTagged = new ArrayList<>();
+        for (int i = 0; i < numberOfProjectsTagged; i++) {
+            projectsTagged.add(new ProjectBuilder().withTitle("Project " + i).build());
+        }
+        return this;
+    }
+
+    /**
+     * Sets the clients the tag mapping being built is meant to tag.
+     */
+    public TagMappingBuilder withClientsTagged(Client... clients) {
+        clientsTagged = new ArrayList<>(Arrays.asList(clients));
+        return this;
+    }
+
+    /**
+     * Sets the projects the tag mapping being built is meant to tag.
+     */
+    public TagMappingBuilder withProjectsTagged(Project... projects) {
+        projectsTagged = new ArrayList<>(Arrays.asList(projects));
         return this;
     }
 
@@ -66,12 +94,8 @@ public class TagMappingBuilder {
      */
     public TagMapping build() {
         TagMapping mapping = new TagMapping(this.tag);
-        for (int i = 0; i < numberOfClientsTagged; i++) {
-            mapping.tagClient();
-        }
-        for (int i = 0; i < numberOfProjectsTagged; i++) {
-            mapping.tagProject();
-        }
+        clientsTagged.forEach(mapping::tagClient);
+        projectsTagged.forEach(mapping::tagProject);
         return mapping;
     }
 